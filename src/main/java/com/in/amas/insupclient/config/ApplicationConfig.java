@@ -16,7 +16,9 @@ import org.springframework.context.annotation.Configuration;
 @EnableConfigurationProperties({
         SecurityConfig.class,
         TcpServerConfig.class,
-        InsupcConfig.class
+        InsupcConfig.class,
+        PipelineConfig.class,
+        DeadlineConfig.class
 })
 public class ApplicationConfig {
     
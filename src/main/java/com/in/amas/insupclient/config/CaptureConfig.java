@@ -0,0 +1,48 @@
+package com.in.amas.insupclient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로세스 내 패킷 캡처 설정 클래스
+ * application-test.yaml의 capture 설정을 매핑
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "capture")
+public class CaptureConfig {
+    
+    /**
+     * 캡처 사용 여부 (false이면 파이프라인에 캡처 핸들러를 넣지 않음)
+     */
+    private boolean enabled = false;
+    
+    /**
+     * INSUPC 연결 캡처 여부
+     */
+    private boolean insupc = true;
+    
+    /**
+     * sipsvc 연결 캡처 여부
+     */
+    private boolean sipsvc = true;
+    
+    /**
+     * 캡처 링 버퍼 크기 (bytes, 다이렉트 메모리)
+     */
+    private int ringSizeBytes = 16 * 1024 * 1024;
+    
+    /**
+     * 읽기/쓰기 한 건당 저장할 최대 바이트 수 (초과분은 잘라내고 원래 길이만 기록)
+     */
+    private int snapLength = 2048;
+    
+    /**
+     * pcap 파일 저장 디렉토리
+     */
+    private String dumpDirectory = "./capture";
+}
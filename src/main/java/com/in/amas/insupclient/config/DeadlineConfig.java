@@ -0,0 +1,59 @@
+package com.in.amas.insupclient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 처리 기한(deadline) 설정 클래스
+ * application-test.yaml의 deadline 설정을 매핑
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "deadline")
+public class DeadlineConfig {
+    
+    /**
+     * 처리 기한 검사 사용 여부
+     */
+    private boolean enabled = false;
+    
+    /**
+     * sipsvc 요청에 timeout_ms가 없을 때 사용하는 기본 처리 기한 (밀리초)
+     */
+    private long defaultTimeoutMs = 5000;
+    
+    /**
+     * sipsvc timestamp 기준으로 처리 기한을 계산할 때 허용하는 서버 간 시계 차이 (밀리초)
+     * 음수면 timestamp를 사용하지 않고 수신 시각 기준으로 계산
+     */
+    private long maxClockSkewMs = 1000;
+    
+    /**
+     * 서비스 코드별 기본 처리 기한 (밀리초)
+     * 키는 sipsvc execute 요청의 service_code 값 (INSUPC API 이름이 아님)
+     */
+    private Map<String, Long> services = new HashMap<>();
+    
+    /**
+     * 서비스 코드에 해당하는 기본 처리 기한 조회
+     * 
+     * @param serviceCode 서비스 코드 (null 가능)
+     * @return 처리 기한 (밀리초)
+     */
+    public long getTimeoutMs(String serviceCode) {
+        if (serviceCode != null) {
+            Long timeoutMs = services.get(serviceCode);
+            if (timeoutMs != null) {
+                return timeoutMs;
+            }
+        }
+        return defaultTimeoutMs;
+    }
+}
@@ -23,6 +23,12 @@ public class InsupcConfig {
      */
     private List<InsupcClient> clients;
     
+    /**
+     * flush 통합 한도 - 이 수만큼 flush 요청이 쌓이면 이벤트 루프 턴을 기다리지 않고 즉시 flush
+     * (0 이하이면 flush 통합 사용 안 함)
+     */
+    private int flushConsolidationLimit = 256;
+    
     /**
      * INSUPC 클라이언트 정보
      */
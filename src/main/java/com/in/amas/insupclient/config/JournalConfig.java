@@ -0,0 +1,67 @@
+package com.in.amas.insupclient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 거래 저널 설정 클래스
+ * application-test.yaml의 journal 설정을 매핑
+ *
+ * @author InComm
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "journal")
+public class JournalConfig {
+
+    /**
+     * 세그먼트당 최대 레코드 수 - 세그먼트 파일(헤더 + 레코드 128 bytes)이 한 번에 매핑할 수 있는 2GB를 넘지 않도록 제한
+     */
+    public static final int MAX_RECORDS_PER_SEGMENT = 16_000_000;
+
+    /**
+     * 최소 보관 세그먼트 수 - 교체 직후 늦게 기록하는 스레드가 쓰는 이전 세그먼트를 삭제하지 않도록 현재 + 이전 세그먼트는 유지
+     */
+    public static final int MIN_MAX_SEGMENTS = 2;
+
+    /**
+     * 거래 저널 기록 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 세그먼트 파일 저장 디렉토리
+     */
+    private String directory = "./journal";
+
+    /**
+     * 세그먼트 파일 하나에 담을 레코드 수 (레코드 128 bytes, 1 ~ {@link #MAX_RECORDS_PER_SEGMENT})
+     */
+    private int recordsPerSegment = 1_000_000;
+
+    /**
+     * 보관할 최대 세그먼트 파일 수 (초과 시 가장 오래된 파일부터 삭제, 0 이하이면 삭제하지 않음)
+     * 1로 설정해도 최소 {@link #MIN_MAX_SEGMENTS}개는 보관함
+     */
+    private int maxSegments = 48;
+
+    /**
+     * 세그먼트당 레코드 수 (허용 범위로 보정)
+     *
+     * @return 1 ~ {@link #MAX_RECORDS_PER_SEGMENT}
+     */
+    public int getRecordsPerSegment() {
+        return Math.max(1, Math.min(recordsPerSegment, MAX_RECORDS_PER_SEGMENT));
+    }
+
+    /**
+     * 보관할 최대 세그먼트 파일 수 (허용 범위로 보정)
+     *
+     * @return 0 이하이면 삭제하지 않음, 그 외에는 최소 {@link #MIN_MAX_SEGMENTS}
+     */
+    public int getMaxSegments() {
+        return maxSegments <= 0 ? maxSegments : Math.max(maxSegments, MIN_MAX_SEGMENTS);
+    }
+}
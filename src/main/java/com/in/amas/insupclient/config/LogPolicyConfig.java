@@ -0,0 +1,89 @@
+package com.in.amas.insupclient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 메시지 처리 경로(hot path) 로그 정책 설정 클래스
+ * application-test.yaml의 log-policy 설정을 매핑
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "log-policy")
+public class LogPolicyConfig {
+    
+    /**
+     * 분류별 설정이 없을 때 사용하는 기본 정책
+     */
+    private CategoryPolicy defaults = new CategoryPolicy();
+    
+    /**
+     * 분류별 정책 (sipsvc-protocol, insupc-protocol, insupc-io, worker)
+     */
+    private Map<String, CategoryPolicy> categories = new HashMap<>();
+    
+    /**
+     * 추적 세션 등록 유지 시간 (밀리초) - 지나면 자동 해제
+     */
+    private long traceTtlMs = 600000;
+    
+    /**
+     * 추적 요청에서 파생된 INSUPC 세션의 추적 유지 시간 (밀리초) - 응답을 받지 못한 경우의 정리용
+     */
+    private long linkedTraceTtlMs = 60000;
+    
+    /**
+     * 추적 대상 로그의 초당 최대 기록 수 (0 이하이면 제한 없음)
+     * sipsvc 요청의 trace 필드는 클라이언트가 정하므로, 한도를 넘은 추적 로그는 일반 정책으로 처리
+     */
+    private double tracedRatePerSecond = 200;
+    
+    /**
+     * 추적 대상 로그의 연속 허용 기록 수
+     */
+    private int tracedBurst = 200;
+    
+    /**
+     * 만료된 추적 세션 정리 주기 (밀리초)
+     */
+    private long tracePurgeIntervalMs = 60000;
+    
+    /**
+     * 분류에 해당하는 정책 조회
+     * 
+     * @param category 분류 이름
+     * @return 정책 (분류별 설정이 없으면 기본 정책)
+     */
+    public CategoryPolicy getPolicy(String category) {
+        CategoryPolicy policy = categories.get(category);
+        return policy != null ? policy : defaults;
+    }
+    
+    /**
+     * 로그 분류별 정책
+     */
+    @Data
+    public static class CategoryPolicy {
+        /**
+         * 표본 비율 - N건 중 1건만 기록 (1이면 모두, 0 이하이면 기록하지 않음)
+         */
+        private int sampleRate = 1;
+        
+        /**
+         * 표본으로 뽑힌 로그의 초당 최대 기록 수 (0 이하이면 제한 없음)
+         */
+        private double ratePerSecond = 100;
+        
+        /**
+         * 연속 허용 기록 수
+         */
+        private int burst = 100;
+    }
+}
@@ -0,0 +1,48 @@
+package com.in.amas.insupclient.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 처리 파이프라인 설정 클래스
+ * application-test.yaml의 pipeline 설정을 매핑
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "pipeline")
+public class PipelineConfig {
+    
+    /**
+     * 파이프라인 모드
+     */
+    private Mode mode = Mode.WORKER;
+    
+    /**
+     * 이벤트 루프 파이프라인 사용 여부
+     * 
+     * @return EVENT_LOOP 모드 여부
+     */
+    public boolean isEventLoopMode() {
+        return mode == Mode.EVENT_LOOP;
+    }
+    
+    /**
+     * 파이프라인 모드
+     */
+    public enum Mode {
+        /**
+         * sipsvc 요청과 INSUPC 응답을 WorkerThreadPool에서 처리 (기본값)
+         */
+        WORKER,
+        
+        /**
+         * auth/heartbeat/execute를 Netty 이벤트 루프에서 논블로킹으로 처리
+         * INSUPC 질의는 CompletableFuture로 연결되며 WorkerThreadPool을 거치지 않음
+         */
+        EVENT_LOOP
+    }
+}
@@ -47,5 +47,38 @@ public class SecurityConfig {
          * 설명
          */
         private String description;
+        
+        /**
+         * 초당 허용 execute 요청 수 (0 이하이면 제한 없음)
+         */
+        private double rateLimit = 0;
+        
+        /**
+         * 연속 허용 execute 요청 수 (0 이하이면 초당 허용 수와 동일)
+         */
+        private int burst = 0;
+        
+        /**
+         * 포화 시 워커 처리 몫 가중치 (공정 스케줄링 사용 시)
+         */
+        private int weight = 1;
+        
+        /**
+         * 클라이언트 ID (지표 태그, 공정 스케줄링 흐름 키 - 인증키 미포함)
+         * 
+         * @return 클라이언트 ID
+         */
+        public String getClientId() {
+            return ip + "/" + mac;
+        }
+        
+        /**
+         * 클라이언트 식별 키 (IP/MAC/인증키)
+         * 
+         * @return 식별 키
+         */
+        public String getClientKey() {
+            return ip + "|" + mac + "|" + authKey;
+        }
     }
 }
@@ -52,7 +52,34 @@ public class TcpServerConfig {
     private long connectionTimeout = 7200000; // 2시간
     
     /**
-     * 최대 연결 수
+     * 최대 연결 수 (0 이하이면 제한 없음)
      */
     private int maxConnections = 100;
+    
+    /**
+     * IP별 최대 연결 수 (0 이하이면 제한 없음)
+     * 여러 sipsvc 프로세스가 NAT 뒤 같은 IP로 접속할 수 있으므로 기본은 제한 없음, 필요한 환경에서 설정으로 켬
+     */
+    private int maxConnectionsPerIp = 0;
+    
+    /**
+     * 초당 최대 accept 수 (0 이하이면 제한 없음)
+     */
+    private double acceptRate = 50;
+    
+    /**
+     * 연속으로 허용하는 accept 수
+     */
+    private int acceptBurst = 20;
+    
+    /**
+     * flush 통합 한도 - 이 수만큼 flush 요청이 쌓이면 이벤트 루프 턴을 기다리지 않고 즉시 flush
+     * (0 이하이면 flush 통합 사용 안 함)
+     */
+    private int flushConsolidationLimit = 256;
+    
+    /**
+     * heartbeat 고속 처리 사용 여부 (이벤트 루프에서 JSON 파싱 없이 즉시 응답)
+     */
+    private boolean heartbeatFastPath = true;
 }
@@ -1,13 +1,28 @@
 package com.in.amas.insupclient.dto;
 
+import com.in.amas.insupclient.util.TokenBucket;
+import io.netty.channel.Channel;
+import io.netty.util.Timeout;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 클라이언트 연결 정보를 관리하는 DTO
  * 
+ * 이벤트 루프(요청 수신)와 워커 스레드(인증, heartbeat 처리)가 함께 갱신하므로
+ * 카운터는 LongAdder, 시각/상태 값은 volatile 필드로 관리함
+ * sipsvc 채널 속성(SipsvcTcpServer.CONNECTION_INFO)과 WorkerMessage에 참조로 전달되어
+ * 요청 처리 중 연결 ID 문자열로 맵을 조회하지 않음
+ * 
  * @author InComm
  * @version 1.0.0
  */
@@ -32,6 +47,13 @@ public class ClientConnectionInfo {
      */
     private int clientPort;
     
+    /**
+     * sipsvc 채널 (응답 전송용)
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Channel channel;
+    
     /**
      * MAC 주소
      */
@@ -53,14 +75,19 @@ public class ClientConnectionInfo {
     private long connectionTime;
     
     /**
-     * 마지막 활동 시간
+     * 마지막 활동 시간 (이벤트 루프와 유휴 타이머 스레드가 함께 접근)
+     */
+    private volatile long lastActivityTime;
+    
+    /**
+     * 유휴 타임아웃 확인 예약 (공유 timing wheel)
      */
-    private long lastActivityTime;
+    private Timeout idleTimeout;
     
     /**
-     * 인증 상태
+     * 인증 상태 (변경은 ConnectionManagementService에서 연결 단위로 동기화하여 수행)
      */
-    private boolean authenticated;
+    private volatile boolean authenticated;
     
     /**
      * 연결 활성화 상태
@@ -70,18 +97,76 @@ public class ClientConnectionInfo {
     /**
      * 총 요청 수
      */
-    private long totalRequests;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final LongAdder requestCount = new LongAdder();
     
     /**
      * 마지막 heartbeat 시간
      */
-    private long lastHeartbeatTime;
+    private volatile long lastHeartbeatTime;
     
     /**
      * 클라이언트 설명
      */
     private String description;
     
+    /**
+     * 인증된 허용 클라이언트 ID (미인증이면 null)
+     */
+    private String clientId;
+    
+    /**
+     * 워커 처리 몫 가중치
+     */
+    @Builder.Default
+    private int weight = 1;
+    
+    /**
+     * execute 요청 속도 제한 (인증 시 클라이언트별 버킷 할당, null이면 제한 없음)
+     * 같은 클라이언트의 여러 연결이 하나의 버킷을 공유하며, 허용 클라이언트 재적재 시 새 버킷으로 교체됨
+     */
+    private volatile TokenBucket rateLimiter;
+    
+    /**
+     * 속도 제한으로 거절된 요청 수
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final LongAdder rateLimitedCount = new LongAdder();
+    
+    /**
+     * execute 요청 허용 여부 확인 (속도 제한)
+     * 
+     * @return 허용 여부
+     */
+    public boolean tryAcquireRequest() {
+        TokenBucket limiter = this.rateLimiter;
+        if (limiter == null || limiter.tryAcquire()) {
+            return true;
+        }
+        this.rateLimitedCount.increment();
+        return false;
+    }
+    
+    /**
+     * 속도 제한으로 거절된 요청 수 조회
+     * 
+     * @return 거절 요청 수
+     */
+    public long getRateLimitedRequests() {
+        return rateLimitedCount.sum();
+    }
+    
+    /**
+     * 총 요청 수 조회
+     * 
+     * @return 요청 수
+     */
+    public long getTotalRequests() {
+        return requestCount.sum();
+    }
+    
     /**
      * 연결 활동 시간 업데이트
      */
@@ -93,7 +178,7 @@ public class ClientConnectionInfo {
      * 요청 수 증가
      */
     public void incrementRequests() {
-        this.totalRequests++;
+        this.requestCount.increment();
         updateActivity();
     }
     
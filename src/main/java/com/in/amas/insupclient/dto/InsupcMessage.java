@@ -90,6 +90,11 @@ public class InsupcMessage {
      */
     private List<InsupcParameter> parameters;
     
+    /**
+     * 응답을 받은 INSUPC 서버 이름 (수신 측에서 설정, 프로토콜 필드 아님)
+     */
+    private String serverName;
+    
     /**
      * 메시지 코드 상수 (C++ enum e_insup_header_msg_code와 동일)
      */
@@ -78,6 +78,18 @@ public class SipsvcMessage {
     @JsonProperty("timestamp")
     private long timestamp;
     
+    /**
+     * 처리 기한 (밀리초, 선택) - 이 시간이 지나면 sipsvc는 응답을 기다리지 않음
+     */
+    @JsonProperty("timeout_ms")
+    private Long timeoutMs;
+    
+    /**
+     * 로그 추적 여부 (선택) - true이면 로그 정책과 관계없이 이 요청의 처리 로그를 모두 기록
+     */
+    @JsonProperty("trace")
+    private Boolean trace;
+    
     /**
      * 결과 코드
      */
@@ -108,6 +120,7 @@ public class SipsvcMessage {
         public static final String AUTH_FAILED = "1001";
         public static final String INVALID_REQUEST = "1002";
         public static final String TIMEOUT = "1003";
+        public static final String RATE_LIMITED = "1004";
         public static final String INTERNAL_ERROR = "9999";
     }
 }
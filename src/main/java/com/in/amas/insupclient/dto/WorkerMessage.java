@@ -3,7 +3,9 @@ package com.in.amas.insupclient.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 /**
  * WorkerThread에서 처리하는 메시지를 위한 DTO
@@ -27,6 +29,28 @@ public class WorkerMessage {
      */
     private String connectionId;
     
+    /**
+     * 연결 컨텍스트 (sipsvc 요청인 경우 - 응답 전송 시 연결 ID로 조회하지 않고 직접 사용)
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private ClientConnectionInfo connection;
+    
+    /**
+     * 상관 ID (요청과 INSUPC 응답을 잇는 숫자 ID, INSUPC 세션 ID로 사용)
+     */
+    private long correlationId;
+    
+    /**
+     * 클라이언트 ID (인증된 허용 클라이언트 식별, 공정 스케줄링 흐름 키 - 미인증이면 null)
+     */
+    private String clientId;
+    
+    /**
+     * 클라이언트 스케줄링 가중치 (0 이하이면 1로 취급)
+     */
+    private int clientWeight;
+    
     /**
      * 요청 ID (요청-응답 매칭을 위한 ID)
      */
@@ -47,6 +71,21 @@ public class WorkerMessage {
      */
     private long receivedTime;
     
+    /**
+     * 워커 큐 진입 시각 (System.nanoTime, 큐 체류 시간 측정용)
+     */
+    private long enqueueTimeNanos;
+    
+    /**
+     * 처리 기한 (epoch 밀리초, 0이면 기한 없음)
+     */
+    private long deadline;
+    
+    /**
+     * 로그 추적 대상 여부 (hot path 로그 정책과 관계없이 처리 로그를 모두 기록)
+     */
+    private boolean traced;
+    
     /**
      * 처리 시작 시간
      */
@@ -86,13 +125,21 @@ public class WorkerMessage {
                 .build();
     }
     
+    /**
+     * INSUPC 응답 실패 메시지 생성 (응답을 받기 전에 연결이 종료된 경우, insupcMessage 없음)
+     */
+    public static WorkerMessage createInsupcFailure(String requestId, long correlationId) {
+        return createInsupcResponse(requestId, correlationId, null);
+    }
+    
     /**
      * INSUPC 응답 메시지 생성
      */
-    public static WorkerMessage createInsupcResponse(String requestId, InsupcMessage insupcMessage) {
+    public static WorkerMessage createInsupcResponse(String requestId, long correlationId, InsupcMessage insupcMessage) {
         return WorkerMessage.builder()
                 .messageType(MessageType.INSUPC_RESPONSE)
                 .requestId(requestId)
+                .correlationId(correlationId)
                 .insupcMessage(insupcMessage)
                 .receivedTime(System.currentTimeMillis())
                 .retryCount(0)
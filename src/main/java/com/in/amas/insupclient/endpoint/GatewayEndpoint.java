@@ -0,0 +1,63 @@
+package com.in.amas.insupclient.endpoint;
+
+import com.in.amas.insupclient.service.ConnectionManagementService;
+import com.in.amas.insupclient.service.MessageProcessingService;
+import com.in.amas.insupclient.tcp.InsupcTcpClient;
+import com.in.amas.insupclient.worker.WorkerThreadPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 게이트웨이 실시간 상태 actuator 엔드포인트 (/actuator/gateway)
+ * 
+ * 워커 큐, sipsvc 연결, INSUPC 연결 풀, 응답 대기 요청의 현재 상태를 한 번에 조회
+ * 모든 값은 카운터/크기 필드와 동시성 맵의 잠금 없는 순회로 수집하므로 처리 경로를 멈추지 않으며,
+ * 항목 사이에는 순간적인 불일치가 있을 수 있음
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "gateway")
+@RequiredArgsConstructor
+public class GatewayEndpoint {
+    
+    private final WorkerThreadPool workerThreadPool;
+    private final ConnectionManagementService connectionManagementService;
+    private final MessageProcessingService messageProcessingService;
+    private final InsupcTcpClient insupcTcpClient;
+    
+    @Value("${management.endpoint.gateway.slowest-limit:10}")
+    private int defaultSlowestLimit;
+    
+    /**
+     * 게이트웨이 상태 조회
+     * 
+     * @param top 응답 대기 시간이 긴 INSUPC 질의 조회 수 (없으면 설정값, 최대 1000)
+     * @return 상태 스냅샷
+     */
+    @ReadOperation
+    public Map<String, Object> snapshot(@Nullable Integer top) {
+        int limit = top != null ? Math.max(0, top) : defaultSlowestLimit;
+        
+        Map<String, Object> pendingRequests = new LinkedHashMap<>();
+        pendingRequests.put("count", messageProcessingService.getPendingRequestCount());
+        pendingRequests.put("oldest_age_ms", messageProcessingService.getOldestPendingRequestAgeMillis());
+        
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timestamp", System.currentTimeMillis());
+        snapshot.put("workers", workerThreadPool.getStatus());
+        snapshot.put("connections", connectionManagementService.getConnectionStatus());
+        snapshot.put("insupc_pools", insupcTcpClient.getPoolStatuses());
+        snapshot.put("pending_requests", pendingRequests);
+        snapshot.put("insupc_in_flight", insupcTcpClient.getInFlightStatus(limit));
+        return snapshot;
+    }
+}
@@ -0,0 +1,75 @@
+package com.in.amas.insupclient.endpoint;
+
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 추적 세션 actuator 엔드포인트 (/actuator/logtrace)
+ * 
+ * 등록된 sipsvc 세션의 요청은 hot path 로그 정책(표본 추출, 속도 제한)과 관계없이 모든 처리 로그를 남김
+ * - GET: 추적 세션 목록
+ * - POST /{sessionId}?ttlMs=: 추적 세션 등록 (ttlMs가 없으면 설정값)
+ * - DELETE /{sessionId}: 추적 세션 해제
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "logtrace")
+@RequiredArgsConstructor
+public class LogTraceEndpoint {
+    
+    private final HotPathLogPolicy hotPathLogPolicy;
+    
+    /**
+     * 추적 세션 목록 조회
+     * 
+     * @return 추적 세션 목록
+     */
+    @ReadOperation
+    public List<HotPathLogPolicy.TracedSession> sessions() {
+        return hotPathLogPolicy.getTracedSessions();
+    }
+    
+    /**
+     * 추적 세션 등록
+     * 
+     * @param sessionId sipsvc 세션 ID
+     * @param ttlMs 유지 시간 (밀리초, 없으면 설정값)
+     * @return 등록 결과
+     */
+    @WriteOperation
+    public Map<String, Object> add(@Selector String sessionId, @Nullable Long ttlMs) {
+        long expiresAt = hotPathLogPolicy.addTrace(sessionId, ttlMs != null ? ttlMs : 0);
+        
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessionId", sessionId);
+        result.put("expiresAt", expiresAt);
+        return result;
+    }
+    
+    /**
+     * 추적 세션 해제
+     * 
+     * @param sessionId sipsvc 세션 ID
+     * @return 해제 결과
+     */
+    @DeleteOperation
+    public Map<String, Object> remove(@Selector String sessionId) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sessionId", sessionId);
+        result.put("removed", hotPathLogPolicy.removeTrace(sessionId));
+        return result;
+    }
+}
@@ -0,0 +1,63 @@
+package com.in.amas.insupclient.endpoint;
+
+import com.in.amas.insupclient.service.WireCaptureService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 패킷 캡처 actuator 엔드포인트 (/actuator/capture)
+ * 
+ * GET으로 캡처 링 상태를 조회하고, POST로 링 내용을 pcap 파일로 저장함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "capture")
+@RequiredArgsConstructor
+public class WireCaptureEndpoint {
+    
+    private final WireCaptureService wireCaptureService;
+    
+    /**
+     * 캡처 상태 조회
+     * 
+     * @return 캡처 상태
+     */
+    @ReadOperation
+    public Map<String, Object> status() {
+        return wireCaptureService.getStatus();
+    }
+    
+    /**
+     * 캡처 링 내용을 pcap 파일로 저장
+     * 
+     * @return 저장 결과 (파일 경로 또는 오류)
+     */
+    @WriteOperation
+    public Map<String, Object> dump() {
+        Map<String, Object> result = wireCaptureService.getStatus();
+        if (!wireCaptureService.isEnabled()) {
+            result.put("error", "패킷 캡처가 비활성화되어 있습니다");
+            return result;
+        }
+        
+        try {
+            Path file = wireCaptureService.dump();
+            result.put("file", file.toAbsolutePath().toString());
+        } catch (IOException e) {
+            log.error("패킷 캡처 저장 실패", e);
+            result.put("error", e.getMessage());
+        }
+        return result;
+    }
+}
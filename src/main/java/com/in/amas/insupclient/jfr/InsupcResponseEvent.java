@@ -0,0 +1,52 @@
+package com.in.amas.insupclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * INSUPC 응답 수신 이벤트
+ * 이벤트 구간은 응답 디코딩과 대기 요청 매칭 시간이며, 질의 전송부터의 왕복 시간은 별도 필드로 기록
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Name("com.in.amas.insupclient.InsupcResponse")
+@Label("INSUPC Response")
+@Description("INSUPC 서버 응답 수신")
+@Category({"INSUPC Gateway", "INSUPC"})
+@StackTrace(false)
+public class InsupcResponseEvent extends Event {
+    
+    @Label("Request ID")
+    @Description("대응하는 대기 요청이 없으면 null")
+    public String requestId;
+    
+    @Label("Correlation ID")
+    public long correlationId;
+    
+    @Label("Session ID")
+    public String sessionId;
+    
+    @Label("Pool")
+    public String pool;
+    
+    @Label("Message Code")
+    public int messageCode;
+    
+    @Label("Result")
+    public int result;
+    
+    @Label("Message Size")
+    @DataAmount(DataAmount.BYTES)
+    public int messageBytes;
+    
+    @Label("Round Trip")
+    @Timespan(Timespan.NANOSECONDS)
+    public long roundTrip;
+}
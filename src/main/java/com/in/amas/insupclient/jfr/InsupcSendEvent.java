@@ -0,0 +1,43 @@
+package com.in.amas.insupclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * INSUPC 질의 전송 이벤트
+ * 이벤트 구간은 질의 직렬화와 채널 쓰기 요청 시간
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Name("com.in.amas.insupclient.InsupcSend")
+@Label("INSUPC Send")
+@Description("INSUPC 서버로 질의 전송")
+@Category({"INSUPC Gateway", "INSUPC"})
+@StackTrace(false)
+public class InsupcSendEvent extends Event {
+    
+    @Label("Request ID")
+    public String requestId;
+    
+    @Label("Correlation ID")
+    public long correlationId;
+    
+    @Label("Session ID")
+    public String sessionId;
+    
+    @Label("Pool")
+    public String pool;
+    
+    @Label("Message Code")
+    public int messageCode;
+    
+    @Label("Message Size")
+    @DataAmount(DataAmount.BYTES)
+    public int messageBytes;
+}
@@ -0,0 +1,43 @@
+package com.in.amas.insupclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * sipsvc 요청 프레임 수신 이벤트
+ * 이벤트 구간은 프레임 복사와 JSON 파싱(디코딩) 시간
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Name("com.in.amas.insupclient.SipsvcFrameReceived")
+@Label("sipsvc Frame Received")
+@Description("sipsvc 요청 프레임 수신 및 디코딩")
+@Category({"INSUPC Gateway", "sipsvc"})
+@StackTrace(false)
+public class SipsvcFrameReceivedEvent extends Event {
+    
+    @Label("Connection ID")
+    public String connectionId;
+    
+    @Label("Request ID")
+    public String requestId;
+    
+    @Label("Correlation ID")
+    public long correlationId;
+    
+    @Label("Session ID")
+    public String sessionId;
+    
+    @Label("Message Type")
+    public String messageType;
+    
+    @Label("Frame Size")
+    @DataAmount(DataAmount.BYTES)
+    public int frameBytes;
+}
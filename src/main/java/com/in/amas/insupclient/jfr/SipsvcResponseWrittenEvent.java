@@ -0,0 +1,43 @@
+package com.in.amas.insupclient.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * sipsvc 응답 전송 이벤트
+ * 이벤트 구간은 응답 직렬화와 채널 쓰기(또는 배치 적재) 시간
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Name("com.in.amas.insupclient.SipsvcResponseWritten")
+@Label("sipsvc Response Written")
+@Description("sipsvc 클라이언트로 응답 전송")
+@Category({"INSUPC Gateway", "sipsvc"})
+@StackTrace(false)
+public class SipsvcResponseWrittenEvent extends Event {
+    
+    @Label("Connection ID")
+    public String connectionId;
+    
+    @Label("Request ID")
+    public String requestId;
+    
+    @Label("Session ID")
+    public String sessionId;
+    
+    @Label("Message Type")
+    public String messageType;
+    
+    @Label("Result Code")
+    public String resultCode;
+    
+    @Label("Message Size")
+    @DataAmount(DataAmount.BYTES)
+    public int messageBytes;
+}
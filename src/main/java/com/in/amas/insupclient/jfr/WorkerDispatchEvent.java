@@ -0,0 +1,60 @@
+package com.in.amas.insupclient.jfr;
+
+import com.in.amas.insupclient.dto.WorkerMessage;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 워커 메시지 처리 이벤트
+ * 이벤트 구간은 워커가 메시지를 꺼낸 뒤 처리를 마칠 때까지의 시간이며, 큐 대기 시간은 별도 필드로 기록
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Name("com.in.amas.insupclient.WorkerDispatch")
+@Label("Worker Dispatch")
+@Description("워커 스레드의 메시지 처리")
+@Category({"INSUPC Gateway", "Worker"})
+@StackTrace(false)
+public class WorkerDispatchEvent extends Event {
+    
+    @Label("Request ID")
+    public String requestId;
+    
+    @Label("Correlation ID")
+    public long correlationId;
+    
+    @Label("Message Type")
+    public String messageType;
+    
+    @Label("Queue ID")
+    @Description("처리한 워커 큐 ID (가상 스레드 모드는 -1)")
+    public int queueId;
+    
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    public long queueWait;
+    
+    /**
+     * 처리 완료 시 이벤트 기록 (이벤트가 비활성화되었거나 임계값 미만이면 기록하지 않음)
+     * 
+     * @param message 처리한 메시지
+     * @param queueId 워커 큐 ID
+     * @param queueWaitNanos 큐 대기 시간 (나노초)
+     */
+    public void complete(WorkerMessage message, int queueId, long queueWaitNanos) {
+        if (shouldCommit()) {
+            this.requestId = message.getRequestId();
+            this.correlationId = message.getCorrelationId();
+            this.messageType = message.getMessageType() != null ? message.getMessageType().name() : null;
+            this.queueId = queueId;
+            this.queueWait = queueWaitNanos;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.in.amas.insupclient.journal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.in.amas.insupclient.journal.TransactionJournal.*;
+
+/**
+ * 거래 저널 세그먼트 변환 도구 (오프라인)
+ * 
+ * 사용법: java -cp incomm-insup.jar -Dloader.main=com.in.amas.insupclient.journal.JournalReader
+ *         org.springframework.boot.loader.launch.PropertiesLauncher [csv|json] {세그먼트 파일 또는 디렉토리}...
+ * 
+ * 디렉토리를 지정하면 그 안의 세그먼트 파일을 번호 순으로 읽음
+ * 완료 표시가 있는 레코드만 표준 출력으로 내보냄 (csv: 헤더 포함, json: 한 줄에 레코드 하나)
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public final class JournalReader {
+    
+    private static final String CSV_HEADER = "timestamp,received_time,latency_ms,correlation_id,request_id,"
+            + "phone_number,server,outcome,result_code,insupc_result,sql_category,sql_value";
+    
+    private final boolean json;
+    private final Writer out;
+    
+    private JournalReader(boolean json, Writer out) {
+        this.json = json;
+        this.out = out;
+    }
+    
+    public static void main(String[] args) throws IOException {
+        int first = 0;
+        boolean json = false;
+        if (args.length > 0 && ("csv".equalsIgnoreCase(args[0]) || "json".equalsIgnoreCase(args[0]))) {
+            json = "json".equalsIgnoreCase(args[0]);
+            first = 1;
+        }
+        if (args.length <= first) {
+            System.err.println("사용법: JournalReader [csv|json] <세그먼트 파일 또는 디렉토리>...");
+            System.exit(1);
+        }
+        
+        List<Path> segments = new ArrayList<>();
+        for (int i = first; i < args.length; i++) {
+            Path path = Paths.get(args[i]);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.list(path)) {
+                    files.filter(TransactionJournal::isSegmentFile).sorted().forEach(segments::add);
+                }
+            } else {
+                segments.add(path);
+            }
+        }
+        
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 64 * 1024);
+        JournalReader reader = new JournalReader(json, out);
+        if (!json) {
+            out.write(CSV_HEADER);
+            out.write('\n');
+        }
+        for (Path segment : segments) {
+            reader.readSegment(segment);
+        }
+        out.flush();
+    }
+    
+    /**
+     * 세그먼트 파일 하나 변환
+     */
+    private void readSegment(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != SEGMENT_MAGIC) {
+            System.err.println("세그먼트 파일이 아님: " + path);
+            return;
+        }
+        if (buffer.getInt(4) != SEGMENT_VERSION || buffer.getInt(8) != RECORD_SIZE) {
+            System.err.println("지원하지 않는 세그먼트 버전: " + path + " (버전 " + buffer.getInt(4)
+                    + ", 레코드 크기 " + buffer.getInt(8) + ")");
+            return;
+        }
+        
+        int records = Math.min(buffer.getInt(12), (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE);
+        for (int i = 0; i < records; i++) {
+            int offset = HEADER_SIZE + i * RECORD_SIZE;
+            if (buffer.getInt(offset + OFF_COMMITTED) != RECORD_COMMITTED) {
+                continue;
+            }
+            writeRecord(buffer, offset);
+        }
+    }
+    
+    private void writeRecord(ByteBuffer buffer, int offset) throws IOException {
+        int outcomeCode = buffer.get(offset + OFF_OUTCOME) & 0xFF;
+        Outcome outcome = Outcome.fromCode(outcomeCode);
+        
+        String timestamp = Instant.ofEpochMilli(buffer.getLong(offset + OFF_TIMESTAMP)).toString();
+        long receivedTime = buffer.getLong(offset + OFF_RECEIVED_TIME);
+        String received = receivedTime > 0 ? Instant.ofEpochMilli(receivedTime).toString() : "";
+        int latencyMs = buffer.getInt(offset + OFF_LATENCY_MS);
+        long correlationId = buffer.getLong(offset + OFF_CORRELATION_ID);
+        String requestId = getAscii(buffer, offset + OFF_REQUEST_ID, LEN_REQUEST_ID);
+        String phoneNumber = getAscii(buffer, offset + OFF_PHONE_NUMBER, LEN_PHONE_NUMBER);
+        String server = getAscii(buffer, offset + OFF_SERVER, LEN_SERVER);
+        String outcomeName = outcome != null ? outcome.name() : Integer.toString(outcomeCode);
+        String resultCode = getAscii(buffer, offset + OFF_RESULT_CODE, LEN_RESULT_CODE);
+        String insupcResult = code(buffer.get(offset + OFF_INSUPC_RESULT));
+        String sqlCategory = code(buffer.get(offset + OFF_SQL_CATEGORY));
+        String sqlValue = code(buffer.get(offset + OFF_SQL_VALUE));
+        
+        if (json) {
+            out.write("{\"timestamp\":\"" + timestamp + "\""
+                    + ",\"receivedTime\":" + (received.isEmpty() ? "null" : "\"" + received + "\"")
+                    + ",\"latencyMs\":" + latencyMs
+                    + ",\"correlationId\":" + correlationId
+                    + ",\"requestId\":" + jsonString(requestId)
+                    + ",\"phoneNumber\":" + jsonString(phoneNumber)
+                    + ",\"server\":" + jsonString(server)
+                    + ",\"outcome\":\"" + outcomeName + "\""
+                    + ",\"resultCode\":" + jsonString(resultCode)
+                    + ",\"insupcResult\":" + (insupcResult.isEmpty() ? "null" : insupcResult)
+                    + ",\"sqlCategory\":" + (sqlCategory.isEmpty() ? "null" : sqlCategory)
+                    + ",\"sqlValue\":" + (sqlValue.isEmpty() ? "null" : sqlValue)
+                    + "}\n");
+        } else {
+            out.write(timestamp + "," + received + "," + latencyMs + "," + correlationId + ","
+                    + csvString(requestId) + "," + csvString(phoneNumber) + "," + csvString(server) + ","
+                    + outcomeName + "," + csvString(resultCode) + ","
+                    + insupcResult + "," + sqlCategory + "," + sqlValue + "\n");
+        }
+    }
+    
+    /**
+     * 1바이트 코드 값 (기록되지 않은 코드는 빈 문자열)
+     */
+    private static String code(byte value) {
+        int code = value & 0xFF;
+        return code == NO_CODE ? "" : Integer.toString(code);
+    }
+    
+    /**
+     * 고정 길이 ASCII 필드 읽기 (0으로 채운 뒷부분 제외)
+     */
+    private static String getAscii(ByteBuffer buffer, int offset, int length) {
+        int end = 0;
+        while (end < length && buffer.get(offset + end) != 0) {
+            end++;
+        }
+        byte[] bytes = new byte[end];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+    
+    private static String csvString(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+    
+    private static String jsonString(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,390 @@
+package com.in.amas.insupclient.journal;
+
+import com.in.amas.insupclient.config.JournalConfig;
+import com.in.amas.insupclient.dto.InsupcMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * execute 거래 저널 (고정 크기 바이너리 레코드, 메모리 매핑 세그먼트 파일)
+ * 
+ * 거래가 끝날 때마다 전화번호, INSUPC 서버, 지연 시간, 결과 코드를 128바이트 레코드 하나로 기록함
+ * 레코드 위치는 AtomicLong 하나로 예약하고 매핑된 파일에 절대 위치로 직접 쓰므로
+ * 잠금, 문자열 포맷팅, 시스템 호출이 없으며, 파일 반영은 OS 페이지 캐시에 맡김 (프로세스 종료 시에도 유지)
+ * 세그먼트가 가득 차면 다음 세그먼트 파일을 만들어 매핑하고, 보관 수를 넘은 오래된 파일은 삭제함
+ * 
+ * 세그먼트 파일 형식 (빅엔디안):
+ * - 헤더 64 bytes: 매직(4) + 버전(4) + 레코드 크기(4) + 레코드 수(4) + 세그먼트 번호(8) + 생성 시각(8)
+ * - 레코드 128 bytes: {@link #RECORD_SIZE} 참고, 첫 4바이트 완료 표시가 없는 레코드는 기록 중이거나 빈 슬롯
+ * 
+ * 세그먼트는 {@link JournalReader}로 CSV/JSON 변환
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class TransactionJournal {
+    
+    /**
+     * 거래 결과
+     */
+    public enum Outcome {
+        /** INSUPC 응답을 sipsvc로 전달 */
+        DELIVERED(1),
+        /** 처리 기한 경과로 응답을 전달하지 않음 */
+        EXPIRED(2),
+        /** INSUPC 질의 전송 실패 */
+        SEND_FAILED(3),
+        /** INSUPC 응답 실패 (타임아웃, 연결 종료 등) */
+        INSUPC_FAILED(4),
+        /** 과부하로 처리하지 않고 거절 */
+        OVERLOADED(5),
+        /** 그 밖의 처리 실패 */
+        FAILED(6),
+        /** 클라이언트별 속도 제한으로 거절 */
+        RATE_LIMITED(7);
+        
+        private static final Outcome[] VALUES = values();
+        
+        private final int code;
+        
+        Outcome(int code) {
+            this.code = code;
+        }
+        
+        public int getCode() {
+            return code;
+        }
+        
+        /**
+         * 코드에 해당하는 결과 조회
+         * 
+         * @param code 결과 코드
+         * @return 결과 (알 수 없는 코드는 null)
+         */
+        public static Outcome fromCode(int code) {
+            for (Outcome outcome : VALUES) {
+                if (outcome.code == code) {
+                    return outcome;
+                }
+            }
+            return null;
+        }
+    }
+    
+    // 세그먼트 헤더
+    static final int SEGMENT_MAGIC = 0x494E534A;   // "INSJ"
+    static final int SEGMENT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final String SEGMENT_PREFIX = "journal-";
+    static final String SEGMENT_SUFFIX = ".seg";
+    
+    // 레코드 레이아웃
+    static final int RECORD_SIZE = 128;
+    static final int RECORD_COMMITTED = 0x4A524E31;   // "JRN1", 레코드를 다 쓴 뒤 마지막으로 기록
+    static final int OFF_COMMITTED = 0;
+    static final int OFF_OUTCOME = 4;
+    static final int OFF_INSUPC_RESULT = 5;
+    static final int OFF_SQL_CATEGORY = 6;
+    static final int OFF_SQL_VALUE = 7;
+    static final int OFF_TIMESTAMP = 8;
+    static final int OFF_RECEIVED_TIME = 16;
+    static final int OFF_CORRELATION_ID = 24;
+    static final int OFF_LATENCY_MS = 32;
+    static final int OFF_RESULT_CODE = 40;
+    static final int LEN_RESULT_CODE = 8;
+    static final int OFF_SERVER = 48;
+    static final int LEN_SERVER = 16;
+    static final int OFF_PHONE_NUMBER = 64;
+    static final int LEN_PHONE_NUMBER = 24;
+    static final int OFF_REQUEST_ID = 88;
+    static final int LEN_REQUEST_ID = 40;
+    
+    // INSUPC 응답이 없거나 SQL_RESULT 파라미터가 없는 경우
+    static final int NO_CODE = 0xFF;
+    
+    private final JournalConfig journalConfig;
+    private final int recordsPerSegment;
+    
+    // 이번 실행의 레코드 슬롯 번호 (세그먼트 = 슬롯 / recordsPerSegment)
+    private final AtomicLong nextSlot = new AtomicLong(0);
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    
+    private Path directory;
+    private long firstSegmentNumber;
+    private volatile Segment current;
+    private volatile Segment previous;
+    
+    public TransactionJournal(JournalConfig journalConfig) {
+        this.journalConfig = journalConfig;
+        this.recordsPerSegment = journalConfig.getRecordsPerSegment();
+        
+        if (!journalConfig.isEnabled()) {
+            return;
+        }
+        
+        try {
+            directory = Paths.get(journalConfig.getDirectory());
+            Files.createDirectories(directory);
+            
+            // 이전 실행의 세그먼트는 그대로 두고 다음 번호부터 새로 시작
+            List<Path> segments = listSegments();
+            firstSegmentNumber = segments.isEmpty() ? 0 : segmentNumber(segments.get(segments.size() - 1)) + 1;
+            current = openSegment(0);
+            
+            log.info("거래 저널 시작 - 디렉토리: {}, 세그먼트당 레코드 수: {}, 세그먼트: {}",
+                    directory.toAbsolutePath(), recordsPerSegment, current.path.getFileName());
+        } catch (IOException e) {
+            log.error("거래 저널 초기화 실패 - 저널을 기록하지 않음: {}", e.getMessage(), e);
+            current = null;
+        }
+    }
+    
+    /**
+     * 거래 기록
+     * 
+     * @param outcome 거래 결과
+     * @param correlationId 상관 ID
+     * @param requestId 요청 ID
+     * @param phoneNumber 전화번호
+     * @param receivedTime 요청 수신 시각 (epoch 밀리초)
+     * @param insupcMessage INSUPC 응답 (없으면 null)
+     * @param resultCode sipsvc 응답 결과 코드 (없으면 null)
+     */
+    public void record(Outcome outcome, long correlationId, String requestId, String phoneNumber,
+                       long receivedTime, InsupcMessage insupcMessage, String resultCode) {
+        Segment segment = current;
+        if (segment == null) {
+            return;
+        }
+        
+        long slot = nextSlot.getAndIncrement();
+        long segmentIndex = slot / recordsPerSegment;
+        if (segment.index != segmentIndex) {
+            segment = segmentFor(segmentIndex);
+            if (segment == null) {
+                droppedCount.increment();
+                return;
+            }
+        }
+        
+        long now = System.currentTimeMillis();
+        ByteBuffer buffer = segment.buffer;
+        int offset = HEADER_SIZE + (int) (slot % recordsPerSegment) * RECORD_SIZE;
+        
+        int sqlCategory = NO_CODE;
+        int sqlValue = NO_CODE;
+        String server = null;
+        if (insupcMessage != null) {
+            server = insupcMessage.getServerName();
+            List<InsupcMessage.InsupcParameter> parameters = insupcMessage.getParameters();
+            if (parameters != null) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    InsupcMessage.InsupcParameter param = parameters.get(i);
+                    if (param.getType() == InsupcMessage.InsupcParameter.Type.SQL_RESULT
+                            && param.getValue() instanceof byte[] value && value.length >= 2) {
+                        sqlCategory = value[0] & 0xFF;
+                        sqlValue = value[1] & 0xFF;
+                        break;
+                    }
+                }
+            }
+        }
+        
+        buffer.put(offset + OFF_OUTCOME, (byte) outcome.code);
+        buffer.put(offset + OFF_INSUPC_RESULT, (byte) (insupcMessage != null ? insupcMessage.getResult() : NO_CODE));
+        buffer.put(offset + OFF_SQL_CATEGORY, (byte) sqlCategory);
+        buffer.put(offset + OFF_SQL_VALUE, (byte) sqlValue);
+        buffer.putLong(offset + OFF_TIMESTAMP, now);
+        buffer.putLong(offset + OFF_RECEIVED_TIME, receivedTime);
+        buffer.putLong(offset + OFF_CORRELATION_ID, correlationId);
+        buffer.putInt(offset + OFF_LATENCY_MS, receivedTime > 0 ? (int) Math.max(0, now - receivedTime) : -1);
+        putAscii(buffer, offset + OFF_RESULT_CODE, LEN_RESULT_CODE, resultCode);
+        putAscii(buffer, offset + OFF_SERVER, LEN_SERVER, server);
+        putAscii(buffer, offset + OFF_PHONE_NUMBER, LEN_PHONE_NUMBER, phoneNumber);
+        putAscii(buffer, offset + OFF_REQUEST_ID, LEN_REQUEST_ID, requestId);
+        buffer.putInt(offset + OFF_COMMITTED, RECORD_COMMITTED);
+        
+        writtenCount.increment();
+    }
+    
+    /**
+     * 문자열을 고정 길이 ASCII로 기록 (초과분은 잘라냄, 새 세그먼트는 0으로 채워져 있으므로 나머지는 그대로 둠)
+     */
+    private static void putAscii(ByteBuffer buffer, int offset, int length, String value) {
+        if (value == null) {
+            return;
+        }
+        int count = Math.min(length, value.length());
+        for (int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            buffer.put(offset + i, (byte) (c < 0x80 ? c : '?'));
+        }
+    }
+    
+    /**
+     * 슬롯이 속한 세그먼트 조회 - 필요하면 다음 세그먼트로 교체
+     * 
+     * @return 세그먼트 (교체 실패 또는 이미 정리된 세그먼트이면 null)
+     */
+    private synchronized Segment segmentFor(long segmentIndex) {
+        Segment segment = current;
+        if (segment == null) {
+            return null;
+        }
+        if (segment.index == segmentIndex) {
+            return segment;
+        }
+        
+        // 교체 직후 이전 세그먼트의 마지막 슬롯을 쓰는 스레드
+        Segment old = previous;
+        if (old != null && old.index == segmentIndex) {
+            return old;
+        }
+        if (segmentIndex < segment.index) {
+            return null;
+        }
+        
+        try {
+            Segment next = openSegment(segmentIndex);
+            previous = segment;
+            current = next;
+            log.info("거래 저널 세그먼트 교체 - {}", next.path.getFileName());
+            
+            deleteOldSegments();
+            return next;
+        } catch (IOException e) {
+            log.error("거래 저널 세그먼트 생성 실패: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+    
+    private Segment openSegment(long segmentIndex) throws IOException {
+        long number = firstSegmentNumber + segmentIndex;
+        Path path = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        long size = HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE;
+        
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+        
+        buffer.putInt(0, SEGMENT_MAGIC);
+        buffer.putInt(4, SEGMENT_VERSION);
+        buffer.putInt(8, RECORD_SIZE);
+        buffer.putInt(12, recordsPerSegment);
+        buffer.putLong(16, number);
+        buffer.putLong(24, System.currentTimeMillis());
+        
+        return new Segment(segmentIndex, path, buffer);
+    }
+    
+    private void deleteOldSegments() {
+        int maxSegments = journalConfig.getMaxSegments();
+        if (maxSegments <= 0) {
+            return;
+        }
+        
+        try {
+            List<Path> segments = listSegments();
+            for (int i = 0; i < segments.size() - maxSegments; i++) {
+                Files.deleteIfExists(segments.get(i));
+                log.info("거래 저널 세그먼트 삭제 - {}", segments.get(i).getFileName());
+            }
+        } catch (IOException e) {
+            log.warn("거래 저널 세그먼트 정리 실패: {}", e.getMessage());
+        }
+    }
+    
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(TransactionJournal::isSegmentFile).sorted().forEach(segments::add);
+        }
+        return segments;
+    }
+    
+    static boolean isSegmentFile(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+    
+    private static long segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    
+    /**
+     * 저널 종료 - 매핑된 세그먼트를 디스크에 반영
+     */
+    @PreDestroy
+    public synchronized void close() {
+        Segment segment = current;
+        if (segment == null) {
+            return;
+        }
+        
+        current = null;
+        Segment old = previous;
+        if (old != null) {
+            old.buffer.force();
+        }
+        segment.buffer.force();
+        
+        log.info("거래 저널 종료 - 기록: {}, 누락: {}", writtenCount.sum(), droppedCount.sum());
+    }
+    
+    /**
+     * 저널 기록 여부
+     */
+    public boolean isEnabled() {
+        return current != null;
+    }
+    
+    /**
+     * 기록한 레코드 수
+     */
+    public long getWrittenCount() {
+        return writtenCount.sum();
+    }
+    
+    /**
+     * 세그먼트 교체 실패 등으로 기록하지 못한 레코드 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+    
+    /**
+     * 매핑된 세그먼트 파일
+     */
+    private static final class Segment {
+        private final long index;
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        
+        private Segment(long index, Path path, MappedByteBuffer buffer) {
+            this.index = index;
+            this.path = path;
+            this.buffer = buffer;
+        }
+    }
+}
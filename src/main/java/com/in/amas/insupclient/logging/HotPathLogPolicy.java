@@ -0,0 +1,296 @@
+package com.in.amas.insupclient.logging;
+
+import com.in.amas.insupclient.config.LogPolicyConfig;
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.util.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메시지 처리 경로(hot path) 로그 정책
+ * 
+ * 메시지마다 남는 INFO 로그를 분류별 표본 추출(N건 중 1건)과 토큰 버킷 속도 제한으로 거르고,
+ * 추적 대상 요청은 별도의 추적 속도 한도 안에서 표본 추출 없이 기록함 (한도를 넘으면 일반 정책 적용)
+ * 처리량이 늘거나 클라이언트가 모든 요청에 trace를 붙여도 기록되는 로그 수는 속도 한도를 넘지 않음
+ * 
+ * 추적 대상:
+ * - sipsvc 요청의 trace 필드가 true인 요청
+ * - 등록된 sipsvc 세션 ID의 요청 (/actuator/logtrace, 유지 시간이 지나면 자동 해제)
+ * - 위 요청에서 파생된 INSUPC 질의의 세션 ID (INSUPC 전송 직전 연결, 응답 수신 시 해제)
+ * 
+ * 응답을 받지 못해 해제되지 않은 항목은 주기적으로 만료 시각을 확인하여 정리함
+ * 
+ * 호출 측은 log.isInfoEnabled()를 먼저 확인한 뒤 호출하여, 로그 레벨이 꺼져 있을 때는 정책 비용도 없게 함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class HotPathLogPolicy {
+    
+    /**
+     * 로그 분류
+     */
+    public enum Category {
+        SIPSVC_PROTOCOL("sipsvc-protocol"),
+        INSUPC_PROTOCOL("insupc-protocol"),
+        INSUPC_IO("insupc-io"),
+        WORKER("worker");
+        
+        private final String configName;
+        
+        Category(String configName) {
+            this.configName = configName;
+        }
+        
+        /**
+         * 설정 키 및 지표 태그 값
+         */
+        public String getConfigName() {
+            return configName;
+        }
+    }
+    
+    private final LogPolicyConfig logPolicyConfig;
+    
+    // 분류별 정책 (Category 순서로 인덱싱)
+    private final int[] sampleRates;
+    private final TokenBucket[] rateLimiters;
+    private final LongAdder[] sampledOutCounts;
+    private final LongAdder[] rateLimitedCounts;
+    
+    // 추적 대상 로그 속도 제한
+    private final TokenBucket tracedRateLimiter;
+    private final LongAdder tracedRateLimitedCount = new LongAdder();
+    
+    // 추적 대상 세션 ID -> 만료 시각 (epoch 밀리초)
+    private final Map<String, Long> tracedSessions = new ConcurrentHashMap<>();
+    
+    public HotPathLogPolicy(LogPolicyConfig logPolicyConfig) {
+        this.logPolicyConfig = logPolicyConfig;
+        
+        Category[] categories = Category.values();
+        this.sampleRates = new int[categories.length];
+        this.rateLimiters = new TokenBucket[categories.length];
+        this.sampledOutCounts = new LongAdder[categories.length];
+        this.rateLimitedCounts = new LongAdder[categories.length];
+        this.tracedRateLimiter = logPolicyConfig.getTracedRatePerSecond() > 0
+                ? new TokenBucket(logPolicyConfig.getTracedRatePerSecond(), Math.max(1, logPolicyConfig.getTracedBurst()))
+                : null;
+        
+        for (Category category : categories) {
+            LogPolicyConfig.CategoryPolicy policy = logPolicyConfig.getPolicy(category.getConfigName());
+            int index = category.ordinal();
+            sampleRates[index] = policy.getSampleRate();
+            rateLimiters[index] = policy.getRatePerSecond() > 0
+                    ? new TokenBucket(policy.getRatePerSecond(), Math.max(1, policy.getBurst()))
+                    : null;
+            sampledOutCounts[index] = new LongAdder();
+            rateLimitedCounts[index] = new LongAdder();
+            
+            log.debug("로그 정책 - 분류: {}, 표본 비율: 1/{}, 초당 한도: {}, burst: {}",
+                    category.getConfigName(), policy.getSampleRate(), policy.getRatePerSecond(), policy.getBurst());
+        }
+    }
+    
+    /**
+     * 로그 기록 여부 결정 (추적 대상이면 추적 속도 한도 안에서 항상 기록)
+     * 
+     * @param category 로그 분류
+     * @param traced 추적 대상 요청 여부
+     * @return 기록 여부
+     */
+    public boolean shouldLog(Category category, boolean traced) {
+        if (traced) {
+            if (tracedRateLimiter == null || tracedRateLimiter.tryAcquire()) {
+                return true;
+            }
+            tracedRateLimitedCount.increment();
+        }
+        
+        int index = category.ordinal();
+        int sampleRate = sampleRates[index];
+        if (sampleRate <= 0 || (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0)) {
+            sampledOutCounts[index].increment();
+            return false;
+        }
+        
+        TokenBucket rateLimiter = rateLimiters[index];
+        if (rateLimiter != null && !rateLimiter.tryAcquire()) {
+            rateLimitedCounts[index].increment();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 로그 기록 여부 결정 - 세션 ID로 추적 여부 확인
+     * 
+     * @param category 로그 분류
+     * @param sessionId sipsvc 또는 INSUPC 세션 ID (null 가능)
+     * @return 기록 여부
+     */
+    public boolean shouldLog(Category category, String sessionId) {
+        return shouldLog(category, isTraced(sessionId));
+    }
+    
+    /**
+     * sipsvc 요청의 추적 여부 (trace 필드 또는 등록된 세션)
+     * 
+     * @param message sipsvc 메시지
+     * @return 추적 대상 여부
+     */
+    public boolean isTraced(SipsvcMessage message) {
+        return Boolean.TRUE.equals(message.getTrace()) || isTraced(message.getSessionId());
+    }
+    
+    /**
+     * 세션 ID의 추적 여부
+     * 
+     * @param sessionId 세션 ID (null 가능)
+     * @return 추적 대상 여부
+     */
+    public boolean isTraced(String sessionId) {
+        if (sessionId == null || tracedSessions.isEmpty()) {
+            return false;
+        }
+        
+        Long expiresAt = tracedSessions.get(sessionId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt < System.currentTimeMillis()) {
+            tracedSessions.remove(sessionId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * 추적 세션 등록
+     * 
+     * @param sessionId sipsvc 세션 ID
+     * @param ttlMs 유지 시간 (밀리초, 0 이하이면 설정값)
+     * @return 만료 시각 (epoch 밀리초)
+     */
+    public long addTrace(String sessionId, long ttlMs) {
+        long expiresAt = System.currentTimeMillis() + (ttlMs > 0 ? ttlMs : logPolicyConfig.getTraceTtlMs());
+        tracedSessions.put(sessionId, expiresAt);
+        log.info("로그 추적 세션 등록 - 세션 ID: {}, 만료: {}", sessionId, expiresAt);
+        return expiresAt;
+    }
+    
+    /**
+     * 추적 세션 해제
+     * 
+     * @param sessionId sipsvc 세션 ID
+     * @return 등록되어 있었는지 여부
+     */
+    public boolean removeTrace(String sessionId) {
+        boolean removed = tracedSessions.remove(sessionId) != null;
+        if (removed) {
+            log.info("로그 추적 세션 해제 - 세션 ID: {}", sessionId);
+        }
+        return removed;
+    }
+    
+    /**
+     * 추적 요청에서 파생된 INSUPC 세션을 추적 대상으로 연결
+     * 
+     * @param insupcSessionId INSUPC 세션 ID
+     */
+    public void linkTrace(String insupcSessionId) {
+        tracedSessions.put(insupcSessionId, System.currentTimeMillis() + logPolicyConfig.getLinkedTraceTtlMs());
+    }
+    
+    /**
+     * 파생된 INSUPC 세션의 추적 연결 해제 (응답 수신 시)
+     * 
+     * @param insupcSessionId INSUPC 세션 ID
+     * @return 추적 대상이었는지 여부
+     */
+    public boolean unlinkTrace(String insupcSessionId) {
+        if (insupcSessionId == null || tracedSessions.isEmpty()) {
+            return false;
+        }
+        return tracedSessions.remove(insupcSessionId) != null;
+    }
+    
+    /**
+     * 만료된 추적 세션 정리
+     * 인증 실패, 기한 경과, 전송 실패 등으로 응답을 받지 못한 INSUPC 세션 연결이 남지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${log-policy.trace-purge-interval-ms:60000}")
+    public void purgeExpiredTraces() {
+        if (tracedSessions.isEmpty()) {
+            return;
+        }
+        
+        long now = System.currentTimeMillis();
+        int before = tracedSessions.size();
+        tracedSessions.values().removeIf(expiresAt -> expiresAt < now);
+        int purged = before - tracedSessions.size();
+        if (purged > 0) {
+            log.debug("만료된 추적 세션 정리 - {} 건", purged);
+        }
+    }
+    
+    /**
+     * 등록된 추적 세션 목록 (만료된 항목 제외)
+     * 
+     * @return 세션 ID와 만료 시각
+     */
+    public List<TracedSession> getTracedSessions() {
+        long now = System.currentTimeMillis();
+        List<TracedSession> sessions = new ArrayList<>();
+        tracedSessions.forEach((sessionId, expiresAt) -> {
+            if (expiresAt >= now) {
+                sessions.add(new TracedSession(sessionId, expiresAt));
+            }
+        });
+        return sessions;
+    }
+    
+    /**
+     * 표본 추출로 기록하지 않은 로그 수
+     */
+    public long getSampledOutCount(Category category) {
+        return sampledOutCounts[category.ordinal()].sum();
+    }
+    
+    /**
+     * 속도 제한으로 기록하지 않은 로그 수
+     */
+    public long getRateLimitedCount(Category category) {
+        return rateLimitedCounts[category.ordinal()].sum();
+    }
+    
+    /**
+     * 추적 속도 한도를 넘어 일반 정책으로 처리한 추적 로그 수
+     */
+    public long getTracedRateLimitedCount() {
+        return tracedRateLimitedCount.sum();
+    }
+    
+    /**
+     * 추적 세션 정보
+     */
+    public static class TracedSession {
+        public final String sessionId;
+        public final long expiresAt;
+        
+        private TracedSession(String sessionId, long expiresAt) {
+            this.sessionId = sessionId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.in.amas.insupclient.metrics;
+
+import com.in.amas.insupclient.config.SecurityConfig;
+import com.in.amas.insupclient.service.ConnectionManagementService;
+import com.in.amas.insupclient.tcp.ConnectionLimitHandler;
+import com.in.amas.insupclient.tcp.FlushCountingHandler;
+import com.in.amas.insupclient.tcp.InsupcTcpClient;
+import com.in.amas.insupclient.tcp.SipsvcTcpServer;
+import com.in.amas.insupclient.worker.ClientWaitStats;
+import com.in.amas.insupclient.worker.WorkerThreadPool;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 게이트웨이 운영 지표를 Micrometer에 등록
+ * 기존 컴포넌트의 카운터를 조회 함수로 연결하므로 처리 경로에 추가 비용이 없음
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class GatewayMeterBinder implements MeterBinder {
+    
+    private static final String SIDE_SIPSVC = "sipsvc";
+    private static final String SIDE_INSUPC = "insupc";
+    
+    private final SipsvcTcpServer sipsvcTcpServer;
+    private final InsupcTcpClient insupcTcpClient;
+    private final ConnectionManagementService connectionManagementService;
+    private final WorkerThreadPool workerThreadPool;
+    private final SecurityConfig securityConfig;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindTcpWriteMetrics(registry, SIDE_SIPSVC, sipsvcTcpServer,
+                SipsvcTcpServer::getFlushCountingHandler, SipsvcTcpServer::getSentMessageCount);
+        bindTcpWriteMetrics(registry, SIDE_INSUPC, insupcTcpClient,
+                InsupcTcpClient::getFlushCountingHandler, InsupcTcpClient::getSentMessageCount);
+        
+        FunctionCounter.builder("gateway.sipsvc.heartbeat.fast", sipsvcTcpServer, 
+                        SipsvcTcpServer::getFastHeartbeatCount)
+                .description("이벤트 루프에서 고속 처리한 heartbeat 수")
+                .register(registry);
+        
+        bindConnectionLimitMetrics(registry);
+        
+        FunctionCounter.builder("gateway.sipsvc.requests", connectionManagementService, 
+                        ConnectionManagementService::getTotalRequestCount)
+                .description("sipsvc 연결에서 수신한 요청 수")
+                .register(registry);
+        
+        Gauge.builder("gateway.sipsvc.connections.authenticated", connectionManagementService, 
+                        ConnectionManagementService::getAuthenticatedConnectionCount)
+                .description("인증된 sipsvc 연결 수")
+                .register(registry);
+        
+        FunctionCounter.builder("gateway.sipsvc.requests.rate_limited", connectionManagementService, 
+                        ConnectionManagementService::getRateLimitedCount)
+                .description("클라이언트별 속도 제한으로 거절된 execute 요청 수")
+                .register(registry);
+        
+        bindClientWaitMetrics(registry);
+    }
+    
+    /**
+     * 허용 클라이언트별 워커 큐 대기 시간 지표 등록 (공정 스케줄링 효과 확인용)
+     * 태그 수가 허용 클라이언트 수로 제한되도록 설정된 클라이언트만 등록
+     */
+    private void bindClientWaitMetrics(MeterRegistry registry) {
+        List<SecurityConfig.AllowedClient> allowedClients = securityConfig.getAllowedClients();
+        if (allowedClients == null || allowedClients.isEmpty()) {
+            return;
+        }
+        
+        ClientWaitStats stats = workerThreadPool.getClientWaitStats();
+        
+        for (SecurityConfig.AllowedClient client : allowedClients) {
+            String clientId = client.getClientId();
+            FunctionTimer.builder("gateway.worker.queue.wait", stats, 
+                            s -> s.getCount(clientId), s -> s.getTotalWaitNanos(clientId), TimeUnit.NANOSECONDS)
+                    .description("클라이언트별 워커 큐 대기 시간")
+                    .tag("client", clientId)
+                    .register(registry);
+        }
+    }
+    
+    /**
+     * sipsvc 연결 제한 지표 등록 (현재 연결 수, 사유별 거절 수)
+     */
+    private void bindConnectionLimitMetrics(MeterRegistry registry) {
+        Gauge.builder("gateway.sipsvc.connections.active", sipsvcTcpServer, 
+                        server -> server.getConnectionLimitHandler() != null 
+                                ? server.getConnectionLimitHandler().getActiveConnections() : 0)
+                .description("accept 단계에서 허용된 현재 sipsvc 연결 수")
+                .register(registry);
+        
+        for (ConnectionLimitHandler.RejectReason reason : ConnectionLimitHandler.RejectReason.values()) {
+            FunctionCounter.builder("gateway.sipsvc.connections.rejected", sipsvcTcpServer, 
+                            server -> server.getConnectionLimitHandler() != null 
+                                    ? server.getConnectionLimitHandler().getRejectedCount(reason) : 0)
+                    .description("accept 단계에서 거절된 sipsvc 연결 수")
+                    .tag("reason", reason.name().toLowerCase())
+                    .register(registry);
+        }
+    }
+    
+    /**
+     * TCP 쓰기 지표 등록 (전송 메시지 수, 소켓 flush 수, 전송 바이트 수)
+     */
+    private <T> void bindTcpWriteMetrics(MeterRegistry registry, String side, T source,
+                                         Function<T, FlushCountingHandler> handler,
+                                         ToLongFunction<T> sentMessages) {
+        FunctionCounter.builder("gateway.tcp.messages.sent", source, s -> sentMessages.applyAsLong(s))
+                .description("소켓으로 전송 요청한 메시지 수")
+                .tag("side", side)
+                .register(registry);
+        
+        FunctionCounter.builder("gateway.tcp.flushes", source, s -> handler.apply(s).getFlushCount())
+                .description("소켓에 도달한 flush 수 (flush 통합 후)")
+                .tag("side", side)
+                .register(registry);
+        
+        FunctionCounter.builder("gateway.tcp.bytes.written", source, s -> handler.apply(s).getWrittenBytes())
+                .description("소켓으로 전송한 바이트 수")
+                .baseUnit("bytes")
+                .tag("side", side)
+                .register(registry);
+    }
+}
@@ -0,0 +1,71 @@
+package com.in.amas.insupclient.metrics;
+
+import com.in.amas.insupclient.dto.InsupcMessage;
+
+/**
+ * INSUPC 지표의 operation 태그 값
+ * 요청/응답 메시지 코드 쌍을 하나의 operation으로 묶어 태그 수를 고정함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public enum InsupcOperation {
+    
+    QUERY("query"),
+    ACCESS("access"),
+    NETTEST("nettest"),
+    STATUS("status"),
+    OTHER("other");
+    
+    private static final InsupcOperation[] VALUES = values();
+    
+    private final String tagValue;
+    
+    InsupcOperation(String tagValue) {
+        this.tagValue = tagValue;
+    }
+    
+    /**
+     * 지표 태그 값
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+    
+    /**
+     * 메시지 코드에 해당하는 operation 조회 (요청/응답 코드 모두 허용)
+     * 
+     * @param msgCode INSUPC 메시지 코드
+     * @return operation (알 수 없는 코드는 OTHER)
+     */
+    public static InsupcOperation fromMessageCode(int msgCode) {
+        switch (msgCode) {
+            case InsupcMessage.MessageCode.DB_QUERY_REQUEST:
+            case InsupcMessage.MessageCode.DB_QUERY_RESPONSE:
+            case InsupcMessage.MessageCode.DB_QUERY_REQUEST_ACK:
+                return QUERY;
+            case InsupcMessage.MessageCode.DB_ACCESS_REQUEST:
+            case InsupcMessage.MessageCode.DB_ACCESS_RESPONSE:
+                return ACCESS;
+            case InsupcMessage.MessageCode.DB_NETTEST_REQUEST:
+            case InsupcMessage.MessageCode.DB_NETTEST_RESPONSE:
+                return NETTEST;
+            case InsupcMessage.MessageCode.DB_STATUS_REQUEST:
+            case InsupcMessage.MessageCode.DB_STATUS_RESPONSE:
+                return STATUS;
+            default:
+                return OTHER;
+        }
+    }
+    
+    /**
+     * operation 수 (operation별 배열 크기)
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+    
+    static InsupcOperation of(int ordinal) {
+        return VALUES[ordinal];
+    }
+}
@@ -0,0 +1,199 @@
+package com.in.amas.insupclient.metrics;
+
+import com.in.amas.insupclient.dto.InsupcMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * INSUPC 응답 결과 코드 집계
+ * 
+ * 헤더 RESULT 코드와 SQL_RESULT 파라미터의 (카테고리, 값) 쌍을 서버별, operation별로 집계하여
+ * 과부하 거절(OVERLOAD_REJECT)과 DBMS 연결 장애(DBMS_NOT_CONNECTED) 등을 구분할 수 있게 함
+ * 
+ * 카운터는 서버 연결 풀 생성 시 미리 만들어 두고, 응답 수신 시에는 코드별 색인 표로
+ * 배열 위치를 구해 LongAdder를 증가시키기만 하므로 기록 경로에서 객체를 만들지 않음
+ * 정의되지 않은 코드는 "other"로 모아 태그 수를 고정함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class InsupcResultMetrics {
+    
+    private static final String OTHER = "other";
+    
+    // 헤더 RESULT 코드 (InsupcMessage.ResultCode)
+    private static final int[] RESULT_CODES = {
+            InsupcMessage.ResultCode.SUCCESS,
+            InsupcMessage.ResultCode.FAIL,
+            InsupcMessage.ResultCode.MODULE_NOT_FOUND,
+            InsupcMessage.ResultCode.SENDDATA_FAIL,
+            InsupcMessage.ResultCode.INVALID_MESSAGE,
+            InsupcMessage.ResultCode.LOGIN_DENIED,
+            InsupcMessage.ResultCode.OVERLOAD_REJECT
+    };
+    private static final String[] RESULT_NAMES = {
+            "success", "fail", "module_not_found", "senddata_fail",
+            "invalid_message", "login_denied", "overload_reject"
+    };
+    private static final int RESULT_SLOTS = RESULT_CODES.length + 1;
+    
+    // SQL 결과 값과 값이 속하는 카테고리 (InsupcParameter.SqlResultValue / SqlResultCategory)
+    private static final int[] SQL_VALUE_CODES = {
+            InsupcMessage.InsupcParameter.SqlResultValue.SUCCESS,
+            InsupcMessage.InsupcParameter.SqlResultValue.NO_DATA,
+            InsupcMessage.InsupcParameter.SqlResultValue.NO_OP_ID,
+            InsupcMessage.InsupcParameter.SqlResultValue.INVALID_OP_ID,
+            InsupcMessage.InsupcParameter.SqlResultValue.NO_PARAMETER,
+            InsupcMessage.InsupcParameter.SqlResultValue.INVALID_PARAMETER,
+            InsupcMessage.InsupcParameter.SqlResultValue.NO_OP_NAME,
+            InsupcMessage.InsupcParameter.SqlResultValue.INVALID_OP_NAME,
+            InsupcMessage.InsupcParameter.SqlResultValue.SQL_ERROR,
+            InsupcMessage.InsupcParameter.SqlResultValue.DBMS_NOT_CONNECTED,
+            InsupcMessage.InsupcParameter.SqlResultValue.DBMS_NOT_ACCESSIBLE
+    };
+    private static final String[] SQL_VALUE_NAMES = {
+            "success", "no_data", "no_op_id", "invalid_op_id", "no_parameter",
+            "invalid_parameter", "no_op_name", "invalid_op_name",
+            "sql_error", "dbms_not_connected", "dbms_not_accessible"
+    };
+    private static final int[] SQL_VALUE_CATEGORIES = {
+            InsupcMessage.InsupcParameter.SqlResultCategory.SUCCESS,
+            InsupcMessage.InsupcParameter.SqlResultCategory.SUCCESS,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.DB_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.DB_FAIL,
+            InsupcMessage.InsupcParameter.SqlResultCategory.DB_FAIL
+    };
+    private static final int SQL_SLOTS = SQL_VALUE_CODES.length + 1;
+    
+    // 1바이트 코드 -> 슬롯 색인 (정의되지 않은 코드는 마지막 "other" 슬롯)
+    private static final byte[] RESULT_INDEX = indexTable(RESULT_CODES);
+    private static final byte[] SQL_VALUE_INDEX = indexTable(SQL_VALUE_CODES);
+    
+    private final MeterRegistry registry;
+    
+    /**
+     * INSUPC 서버별 결과 카운터 생성 및 등록 (연결 풀 생성 시 한 번 호출)
+     * 
+     * @param server INSUPC 서버 이름
+     * @return 서버 결과 카운터
+     */
+    public ServerCounters forServer(String server) {
+        ServerCounters counters = new ServerCounters();
+        
+        for (int op = 0; op < InsupcOperation.count(); op++) {
+            String operation = InsupcOperation.of(op).getTagValue();
+            
+            for (int i = 0; i < RESULT_SLOTS; i++) {
+                FunctionCounter.builder("gateway.insupc.responses", counters.results[op * RESULT_SLOTS + i],
+                                LongAdder::sum)
+                        .description("INSUPC 응답 헤더 RESULT 코드별 수")
+                        .tag("server", server)
+                        .tag("operation", operation)
+                        .tag("result", i < RESULT_NAMES.length ? RESULT_NAMES[i] : OTHER)
+                        .register(registry);
+            }
+            
+            for (int i = 0; i < SQL_SLOTS; i++) {
+                FunctionCounter.builder("gateway.insupc.sql.results", counters.sqlResults[op * SQL_SLOTS + i],
+                                LongAdder::sum)
+                        .description("INSUPC 응답 SQL_RESULT 카테고리/값별 수")
+                        .tag("server", server)
+                        .tag("operation", operation)
+                        .tag("category", i < SQL_VALUE_NAMES.length ? categoryName(SQL_VALUE_CATEGORIES[i]) : OTHER)
+                        .tag("value", i < SQL_VALUE_NAMES.length ? SQL_VALUE_NAMES[i] : OTHER)
+                        .register(registry);
+            }
+        }
+        
+        return counters;
+    }
+    
+    private static byte[] indexTable(int[] codes) {
+        byte[] table = new byte[256];
+        Arrays.fill(table, (byte) codes.length);
+        for (int i = 0; i < codes.length; i++) {
+            table[codes[i] & 0xFF] = (byte) i;
+        }
+        return table;
+    }
+    
+    private static String categoryName(int category) {
+        switch (category) {
+            case InsupcMessage.InsupcParameter.SqlResultCategory.SUCCESS:
+                return "success";
+            case InsupcMessage.InsupcParameter.SqlResultCategory.AS_FAIL:
+                return "as_fail";
+            case InsupcMessage.InsupcParameter.SqlResultCategory.DB_FAIL:
+                return "db_fail";
+            default:
+                return OTHER;
+        }
+    }
+    
+    /**
+     * INSUPC 서버 하나의 결과 카운터
+     * 배열은 operation 순서 * 슬롯 수 + 코드 슬롯 위치로 인덱싱
+     */
+    public static final class ServerCounters {
+        
+        private final LongAdder[] results = newAdders(InsupcOperation.count() * RESULT_SLOTS);
+        private final LongAdder[] sqlResults = newAdders(InsupcOperation.count() * SQL_SLOTS);
+        
+        private ServerCounters() {
+        }
+        
+        /**
+         * 수신한 응답의 결과 코드 기록 (INSUPC 이벤트 루프에서 호출)
+         * 
+         * @param message 파싱된 INSUPC 응답
+         */
+        public void record(InsupcMessage message) {
+            int op = InsupcOperation.fromMessageCode(message.getMsgCode()).ordinal();
+            results[op * RESULT_SLOTS + RESULT_INDEX[message.getResult() & 0xFF]].increment();
+            
+            List<InsupcMessage.InsupcParameter> parameters = message.getParameters();
+            if (parameters == null) {
+                return;
+            }
+            
+            for (int i = 0; i < parameters.size(); i++) {
+                InsupcMessage.InsupcParameter param = parameters.get(i);
+                if (param.getType() == InsupcMessage.InsupcParameter.Type.SQL_RESULT
+                        && param.getValue() instanceof byte[] value && value.length >= 2) {
+                    sqlResults[op * SQL_SLOTS + sqlSlot(value[0] & 0xFF, value[1] & 0xFF)].increment();
+                }
+            }
+        }
+        
+        /**
+         * SQL 결과 슬롯 - 값이 정의된 코드이고 카테고리가 값의 카테고리와 일치할 때만 해당 슬롯
+         */
+        private static int sqlSlot(int category, int value) {
+            int slot = SQL_VALUE_INDEX[value];
+            return slot < SQL_VALUE_CODES.length && SQL_VALUE_CATEGORIES[slot] == category
+                    ? slot : SQL_VALUE_CODES.length;
+        }
+        
+        private static LongAdder[] newAdders(int size) {
+            LongAdder[] adders = new LongAdder[size];
+            for (int i = 0; i < size; i++) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.in.amas.insupclient.metrics;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.in.amas.insupclient.logging.CountingAsyncAppender;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그 정책과 비동기 Appender 지표
+ * 
+ * hot path 로그 정책이 분류별로 거른 로그 수와, logback-spring.xml의 CountingAsyncAppender별
+ * 큐 사용량 및 버린 이벤트 수를 노출하여 로그 유실 여부를 확인할 수 있게 함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class LoggingMetrics implements MeterBinder {
+    
+    private final HotPathLogPolicy hotPathLogPolicy;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HotPathLogPolicy.Category category : HotPathLogPolicy.Category.values()) {
+            FunctionCounter.builder("gateway.logging.suppressed", hotPathLogPolicy,
+                            policy -> policy.getSampledOutCount(category))
+                    .description("hot path 로그 정책으로 기록하지 않은 로그 수")
+                    .tag("category", category.getConfigName())
+                    .tag("reason", "sampled")
+                    .register(registry);
+            FunctionCounter.builder("gateway.logging.suppressed", hotPathLogPolicy,
+                            policy -> policy.getRateLimitedCount(category))
+                    .description("hot path 로그 정책으로 기록하지 않은 로그 수")
+                    .tag("category", category.getConfigName())
+                    .tag("reason", "rate_limited")
+                    .register(registry);
+        }
+        FunctionCounter.builder("gateway.logging.trace.rate_limited", hotPathLogPolicy,
+                        HotPathLogPolicy::getTracedRateLimitedCount)
+                .description("추적 속도 한도를 넘어 일반 정책으로 처리한 추적 로그 수")
+                .register(registry);
+        
+        for (CountingAsyncAppender appender : findAsyncAppenders().values()) {
+            String name = appender.getName();
+            
+            Gauge.builder("gateway.logging.appender.queue.size", appender,
+                            CountingAsyncAppender::getNumberOfElementsInQueue)
+                    .description("비동기 Appender 큐에 쌓인 이벤트 수")
+                    .tag("appender", name)
+                    .register(registry);
+            FunctionCounter.builder("gateway.logging.appender.dropped", appender,
+                            CountingAsyncAppender::getDiscardedCount)
+                    .description("비동기 Appender가 버린 이벤트 수")
+                    .tag("appender", name)
+                    .tag("reason", "discarded")
+                    .register(registry);
+            FunctionCounter.builder("gateway.logging.appender.dropped", appender,
+                            CountingAsyncAppender::getOverflowCount)
+                    .description("비동기 Appender가 버린 이벤트 수")
+                    .tag("appender", name)
+                    .tag("reason", "overflow")
+                    .register(registry);
+        }
+    }
+    
+    /**
+     * logback 로거에 연결된 CountingAsyncAppender 조회 (이름 기준 중복 제거)
+     */
+    private static Map<String, CountingAsyncAppender> findAsyncAppenders() {
+        Map<String, CountingAsyncAppender> appenders = new LinkedHashMap<>();
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return appenders;
+        }
+        
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                if (iterator.next() instanceof CountingAsyncAppender appender) {
+                    appenders.putIfAbsent(appender.getName(), appender);
+                }
+            }
+        }
+        return appenders;
+    }
+}
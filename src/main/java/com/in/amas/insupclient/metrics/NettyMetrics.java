@@ -0,0 +1,293 @@
+package com.in.amas.insupclient.metrics;
+
+import com.in.amas.insupclient.tcp.InsupcTcpClient;
+import com.in.amas.insupclient.tcp.InstrumentedByteBufAllocator;
+import com.in.amas.insupclient.tcp.SipsvcTcpServer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Netty 이벤트 루프와 풀링 할당자 지표
+ * 
+ * 이벤트 루프마다 주기적으로 빈 작업을 넣어 실행되기까지의 지연(스케줄링 지연)을 재고,
+ * 대기 작업 수와 루프 스레드의 CPU 사용 비율을 함께 노출하여 루프 포화 여부를 바로 확인할 수 있게 함
+ * 측정 작업은 루프마다 하나만 대기하도록 하여 포화된 루프에 작업을 더 쌓지 않으며,
+ * 대기 중인 측정 작업의 경과 시간을 현재 지연으로 보고하므로 루프가 멈춰도 지연이 계속 증가하여 보임
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class NettyMetrics implements MeterBinder {
+    
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    
+    private final SipsvcTcpServer sipsvcTcpServer;
+    private final InsupcTcpClient insupcTcpClient;
+    private final long probeIntervalMs;
+    
+    private final List<LoopProbe> probes = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService probeScheduler;
+    
+    public NettyMetrics(SipsvcTcpServer sipsvcTcpServer, InsupcTcpClient insupcTcpClient,
+                        @Value("${metrics.event-loop.probe-interval-ms:1000}") long probeIntervalMs) {
+        this.sipsvcTcpServer = sipsvcTcpServer;
+        this.insupcTcpClient = insupcTcpClient;
+        this.probeIntervalMs = probeIntervalMs;
+    }
+    
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        bindEventLoopGroup(registry, "sipsvc-boss", sipsvcTcpServer.getBossGroup());
+        bindEventLoopGroup(registry, "sipsvc-worker", sipsvcTcpServer.getWorkerGroup());
+        bindEventLoopGroup(registry, "insupc", insupcTcpClient.getWorkerGroup());
+        bindAllocatorMetrics(registry, InstrumentedByteBufAllocator.DEFAULT);
+        
+        if (probeScheduler == null && !probes.isEmpty() && probeIntervalMs > 0) {
+            probeScheduler = Executors.newSingleThreadScheduledExecutor(
+                    new DefaultThreadFactory("event-loop-probe", true));
+            probeScheduler.scheduleAtFixedRate(this::probeAll, probeIntervalMs, probeIntervalMs,
+                    TimeUnit.MILLISECONDS);
+            
+            log.info("이벤트 루프 지표 수집 시작 - 루프 수: {}, 측정 주기: {}ms", probes.size(), probeIntervalMs);
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (probeScheduler != null) {
+            probeScheduler.shutdownNow();
+        }
+    }
+    
+    /**
+     * 이벤트 루프 그룹의 루프별 지표 등록
+     */
+    private void bindEventLoopGroup(MeterRegistry registry, String group, EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup == null) {
+            return;
+        }
+        
+        int index = 0;
+        for (EventExecutor executor : eventLoopGroup) {
+            String loop = Integer.toString(index++);
+            LoopProbe probe = new LoopProbe(executor, Timer.builder("gateway.netty.eventloop.lag")
+                    .description("이벤트 루프에 넣은 작업이 실행되기까지의 지연")
+                    .tag("group", group)
+                    .tag("loop", loop)
+                    .register(registry));
+            probes.add(probe);
+            
+            TimeGauge.builder("gateway.netty.eventloop.lag.current", probe, TimeUnit.NANOSECONDS,
+                            LoopProbe::currentLagNanos)
+                    .description("마지막 측정 지연 (측정 작업이 대기 중이면 대기 경과 시간)")
+                    .tag("group", group)
+                    .tag("loop", loop)
+                    .register(registry);
+            
+            Gauge.builder("gateway.netty.eventloop.pending.tasks", probe, LoopProbe::pendingTasks)
+                    .description("이벤트 루프 대기 작업 수")
+                    .tag("group", group)
+                    .tag("loop", loop)
+                    .register(registry);
+            
+            Gauge.builder("gateway.netty.eventloop.busy.ratio", probe, LoopProbe::busyRatio)
+                    .description("측정 주기 동안 이벤트 루프 스레드의 CPU 사용 비율 (I/O와 작업 처리 시간 비율)")
+                    .tag("group", group)
+                    .tag("loop", loop)
+                    .register(registry);
+        }
+    }
+    
+    /**
+     * 풀링 할당자 지표 등록 (사용 메모리, 청크 수, 스레드 캐시 적중률)
+     */
+    private void bindAllocatorMetrics(MeterRegistry registry, InstrumentedByteBufAllocator allocator) {
+        PooledByteBufAllocatorMetric metric = allocator.metric();
+        
+        Gauge.builder("gateway.netty.allocator.memory.used", metric, PooledByteBufAllocatorMetric::usedDirectMemory)
+                .description("풀링 할당자가 사용 중인 메모리")
+                .baseUnit("bytes")
+                .tag("type", "direct")
+                .register(registry);
+        Gauge.builder("gateway.netty.allocator.memory.used", metric, PooledByteBufAllocatorMetric::usedHeapMemory)
+                .description("풀링 할당자가 사용 중인 메모리")
+                .baseUnit("bytes")
+                .tag("type", "heap")
+                .register(registry);
+        
+        Gauge.builder("gateway.netty.allocator.chunks.active", metric,
+                        m -> sumArenas(m.directArenas(), PoolArenaMetric::numActiveChunks))
+                .description("할당된 청크 수")
+                .tag("type", "direct")
+                .register(registry);
+        Gauge.builder("gateway.netty.allocator.chunks.active", metric,
+                        m -> sumArenas(m.heapArenas(), PoolArenaMetric::numActiveChunks))
+                .description("할당된 청크 수")
+                .tag("type", "heap")
+                .register(registry);
+        
+        Gauge.builder("gateway.netty.allocator.thread.caches", metric,
+                        PooledByteBufAllocatorMetric::numThreadLocalCaches)
+                .description("스레드 로컬 캐시 수")
+                .register(registry);
+        
+        // 아레나 할당 수는 스레드 캐시에서 처리되지 못한 할당
+        ToLongFunction<InstrumentedByteBufAllocator> arenaAllocations = a ->
+                sumArenas(a.metric().directArenas(), PoolArenaMetric::numAllocations)
+                        + sumArenas(a.metric().heapArenas(), PoolArenaMetric::numAllocations);
+        
+        FunctionCounter.builder("gateway.netty.allocator.allocations", allocator,
+                        InstrumentedByteBufAllocator::getAllocationCount)
+                .description("풀링 할당 수 (스레드 캐시 적중 포함)")
+                .register(registry);
+        FunctionCounter.builder("gateway.netty.allocator.allocations.arena", allocator,
+                        a -> arenaAllocations.applyAsLong(a))
+                .description("스레드 캐시에서 처리되지 못해 아레나에서 할당한 수")
+                .register(registry);
+        
+        ToDoubleFunction<InstrumentedByteBufAllocator> hitRatio = a -> {
+            long total = a.getAllocationCount();
+            if (total == 0) {
+                return 0;
+            }
+            return Math.max(0, 1.0 - (double) arenaAllocations.applyAsLong(a) / total);
+        };
+        Gauge.builder("gateway.netty.allocator.thread.cache.hit.ratio", allocator, hitRatio)
+                .description("시작 이후 풀링 할당 중 스레드 캐시에서 처리된 비율")
+                .register(registry);
+    }
+    
+    private static long sumArenas(List<PoolArenaMetric> arenas, ToLongFunction<PoolArenaMetric> value) {
+        long sum = 0;
+        for (PoolArenaMetric arena : arenas) {
+            sum += value.applyAsLong(arena);
+        }
+        return sum;
+    }
+    
+    /**
+     * 모든 이벤트 루프에 측정 작업 제출 (측정 스케줄러 스레드에서 실행)
+     */
+    private void probeAll() {
+        long now = System.nanoTime();
+        for (LoopProbe probe : probes) {
+            try {
+                probe.probe(now);
+            } catch (Exception e) {
+                log.debug("이벤트 루프 측정 실패: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * 이벤트 루프 하나의 측정 상태
+     */
+    private static final class LoopProbe implements Runnable {
+        
+        private final EventExecutor executor;
+        private final Timer lagTimer;
+        
+        // 대기 중인 측정 작업의 제출 시각 (0이면 대기 중인 작업 없음)
+        private volatile long submittedNanos = 0;
+        private volatile long lastLagNanos = 0;
+        
+        // 루프 스레드 (첫 측정 작업 실행 시 확인)
+        private volatile Thread thread;
+        
+        // CPU 사용 비율 계산용 직전 측정값 (측정 스케줄러 스레드에서만 접근)
+        private long lastCpuNanos = -1;
+        private long lastWallNanos;
+        private volatile double busyRatio = 0;
+        
+        private LoopProbe(EventExecutor executor, Timer lagTimer) {
+            this.executor = executor;
+            this.lagTimer = lagTimer;
+        }
+        
+        void probe(long now) {
+            updateBusyRatio(now);
+            
+            if (submittedNanos != 0 || executor.isShuttingDown()) {
+                return;
+            }
+            
+            submittedNanos = now;
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                submittedNanos = 0;
+            }
+        }
+        
+        /**
+         * 측정 작업 - 이벤트 루프에서 실행
+         */
+        @Override
+        public void run() {
+            long lag = System.nanoTime() - submittedNanos;
+            lastLagNanos = lag;
+            lagTimer.record(lag, TimeUnit.NANOSECONDS);
+            if (thread == null) {
+                thread = Thread.currentThread();
+            }
+            submittedNanos = 0;
+        }
+        
+        private void updateBusyRatio(long now) {
+            Thread loopThread = thread;
+            if (loopThread == null || !THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+                return;
+            }
+            
+            long cpuNanos = THREAD_MX_BEAN.getThreadCpuTime(loopThread.threadId());
+            if (cpuNanos < 0) {
+                return;
+            }
+            if (lastCpuNanos >= 0 && now > lastWallNanos) {
+                busyRatio = Math.min(1.0, (double) (cpuNanos - lastCpuNanos) / (now - lastWallNanos));
+            }
+            lastCpuNanos = cpuNanos;
+            lastWallNanos = now;
+        }
+        
+        double currentLagNanos() {
+            long submitted = submittedNanos;
+            return submitted != 0 ? System.nanoTime() - submitted : lastLagNanos;
+        }
+        
+        double pendingTasks() {
+            return executor instanceof SingleThreadEventExecutor loop ? loop.pendingTasks() : 0;
+        }
+        
+        double busyRatio() {
+            return busyRatio;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.in.amas.insupclient.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 처리 단계별 지연 시간 타이머
+ * 
+ * 단계별 Timer를 미리 등록해 두고 처리 경로에서는 배열 인덱스로 찾아 기록만 하므로
+ * 태그 조합 조회나 Meter 생성 비용이 없음
+ * 분위수는 Micrometer의 HdrHistogram 기반 시간 창 히스토그램으로 계산하고,
+ * Prometheus에는 히스토그램 버킷으로도 노출하여 서버 여러 대의 분포를 합산할 수 있게 함
+ * 
+ * 태그는 단계, INSUPC 서버 이름(설정 목록), operation(고정 목록)뿐이므로 카디널리티가 고정됨
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Component
+public class RequestStageMetrics {
+    
+    /**
+     * 요청 처리 단계
+     */
+    public enum Stage {
+        SIPSVC_DECODE("sipsvc_decode"),
+        QUEUE_WAIT("queue_wait"),
+        WORKER_PROCESS("worker_process"),
+        RESPONSE_WRITE("response_write");
+        
+        private final String tagValue;
+        
+        Stage(String tagValue) {
+            this.tagValue = tagValue;
+        }
+    }
+    
+    private final MeterRegistry registry;
+    private final boolean histogramEnabled;
+    private final Duration maxExpected;
+    private final Timer[] stageTimers;
+    
+    public RequestStageMetrics(MeterRegistry registry,
+                               @Value("${metrics.stage-timers.histogram-enabled:true}") boolean histogramEnabled,
+                               @Value("${metrics.stage-timers.max-expected-ms:30000}") long maxExpectedMs) {
+        this.registry = registry;
+        this.histogramEnabled = histogramEnabled;
+        this.maxExpected = Duration.ofMillis(maxExpectedMs);
+        
+        Stage[] stages = Stage.values();
+        this.stageTimers = new Timer[stages.length];
+        for (Stage stage : stages) {
+            stageTimers[stage.ordinal()] = timer("gateway.request.stage", "요청 처리 단계별 소요 시간")
+                    .tag("stage", stage.tagValue)
+                    .register(registry);
+        }
+    }
+    
+    /**
+     * 단계 소요 시간 기록
+     * 
+     * @param stage 처리 단계
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void record(Stage stage, long nanos) {
+        stageTimers[stage.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * INSUPC 서버의 연결 획득 대기 타이머 생성 (연결 풀 생성 시 한 번 호출)
+     * 
+     * @param server INSUPC 서버 이름
+     * @return 타이머
+     */
+    public Timer insupcAcquireTimer(String server) {
+        return timer("gateway.insupc.connection.acquire", "INSUPC 연결 풀에서 연결을 얻기까지의 대기 시간")
+                .tag("server", server)
+                .register(registry);
+    }
+    
+    /**
+     * INSUPC 서버의 operation별 왕복 시간 타이머 생성 (연결 풀 생성 시 한 번 호출)
+     * 
+     * @param server INSUPC 서버 이름
+     * @return InsupcOperation 순서로 인덱싱된 타이머 배열
+     */
+    public Timer[] insupcRoundTripTimers(String server) {
+        Timer[] timers = new Timer[InsupcOperation.count()];
+        for (int i = 0; i < timers.length; i++) {
+            timers[i] = timer("gateway.insupc.round_trip", "INSUPC 질의 전송부터 응답 수신까지의 시간")
+                    .tag("server", server)
+                    .tag("operation", InsupcOperation.of(i).getTagValue())
+                    .register(registry);
+        }
+        return timers;
+    }
+    
+    private Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram(histogramEnabled)
+                .maximumExpectedValue(maxExpected);
+    }
+}
@@ -0,0 +1,345 @@
+package com.in.amas.insupclient.protocol;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * sipsvc heartbeat 고속 처리기
+ * 
+ * 수신 프레임을 JSON 파싱 없이 바이트 단위로 훑어 최상위 "type"이 "heartbeat"인지 확인하고,
+ * 미리 직렬화해 둔 응답 템플릿에 session_id, client_ip, timestamp만 채워 응답 버퍼를 만듦
+ * 응답 형식은 SipsvcProtocolParser.createHeartbeatResponse를 Jackson으로 직렬화한 것과 동일
+ * 
+ * 이스케이프 문자가 포함된 값 등 단순 스캔으로 처리할 수 없는 프레임은 null을 반환하여 기존 경로로 처리
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartbeatFastPath {
+    
+    private static final byte[] KEY_TYPE = "type".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_SESSION_ID = "session_id".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] KEY_CLIENT_IP = "client_ip".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] VALUE_HEARTBEAT = SipsvcMessage.Type.HEARTBEAT.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] LITERAL_NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    
+    private static final String SESSION_ID_MARKER = "@@SESSION_ID@@";
+    private static final String CLIENT_IP_MARKER = "@@CLIENT_IP@@";
+    private static final long TIMESTAMP_MARKER = Long.MIN_VALUE;
+    
+    private final ObjectMapper objectMapper;
+    
+    // 템플릿 조각 - literals[i] 뒤에 slots[i] 값이 들어가며, 마지막 literal 뒤에는 slot 없음
+    private byte[][] literals;
+    private Slot[] slots;
+    private int literalLength;
+    
+    /**
+     * 템플릿 슬롯 종류
+     */
+    private enum Slot {
+        SESSION_ID, CLIENT_IP, TIMESTAMP
+    }
+    
+    /**
+     * 응답 템플릿 생성 - 표식 값으로 직렬화한 뒤 표식 위치를 기준으로 조각냄
+     */
+    @PostConstruct
+    public void initialize() throws Exception {
+        SipsvcMessage prototype = SipsvcMessage.builder()
+                .type(SipsvcMessage.Type.RESPONSE)
+                .sessionId(SESSION_ID_MARKER)
+                .clientIp(CLIENT_IP_MARKER)
+                .resultCode(SipsvcMessage.ResultCode.SUCCESS)
+                .resultMessage("Heartbeat OK")
+                .timestamp(TIMESTAMP_MARKER)
+                .build();
+        
+        byte[] template = objectMapper.writeValueAsBytes(prototype);
+        
+        List<int[]> markers = new ArrayList<>();
+        addMarker(markers, template, "\"" + SESSION_ID_MARKER + "\"", Slot.SESSION_ID);
+        addMarker(markers, template, "\"" + CLIENT_IP_MARKER + "\"", Slot.CLIENT_IP);
+        addMarker(markers, template, Long.toString(TIMESTAMP_MARKER), Slot.TIMESTAMP);
+        markers.sort(Comparator.comparingInt(marker -> marker[0]));
+        
+        literals = new byte[markers.size() + 1][];
+        slots = new Slot[markers.size()];
+        literalLength = 0;
+        
+        int position = 0;
+        for (int i = 0; i < markers.size(); i++) {
+            int[] marker = markers.get(i);
+            literals[i] = Arrays.copyOfRange(template, position, marker[0]);
+            slots[i] = Slot.values()[marker[2]];
+            literalLength += literals[i].length;
+            position = marker[0] + marker[1];
+        }
+        literals[markers.size()] = Arrays.copyOfRange(template, position, template.length);
+        literalLength += literals[markers.size()].length;
+        
+        log.info("heartbeat 응답 템플릿 생성 완료 - 고정 부분 크기: {} bytes", literalLength);
+    }
+    
+    private static void addMarker(List<int[]> markers, byte[] template, String marker, Slot slot) {
+        byte[] markerBytes = marker.getBytes(StandardCharsets.UTF_8);
+        int offset = indexOf(template, markerBytes);
+        if (offset < 0) {
+            throw new IllegalStateException("heartbeat 응답 템플릿에서 표식을 찾을 수 없음: " + marker);
+        }
+        markers.add(new int[]{offset, markerBytes.length, slot.ordinal()});
+    }
+    
+    /**
+     * heartbeat 프레임이면 응답 버퍼 생성
+     * 요청 버퍼의 readerIndex는 변경하지 않음
+     * 
+     * @param request 수신 프레임 (길이 필드 제거된 JSON)
+     * @param allocator 응답 버퍼 할당자
+     * @return 응답 버퍼 (heartbeat가 아니거나 고속 처리할 수 없으면 null)
+     */
+    public ByteBuf tryBuildResponse(ByteBuf request, ByteBufAllocator allocator) {
+        Scan scan = scan(request);
+        if (scan == null || !scan.heartbeat || scan.sessionIdStart < 0) {
+            return null;
+        }
+        
+        int sessionIdLength = scan.sessionIdEnd - scan.sessionIdStart;
+        int clientIpLength = scan.clientIpStart >= 0 ? scan.clientIpEnd - scan.clientIpStart + 2 : LITERAL_NULL.length;
+        ByteBuf response = allocator.buffer(literalLength + sessionIdLength + 2 + clientIpLength + 20);
+        
+        for (int i = 0; i < slots.length; i++) {
+            response.writeBytes(literals[i]);
+            
+            switch (slots[i]) {
+                case SESSION_ID:
+                    response.writeByte('"');
+                    response.writeBytes(request, scan.sessionIdStart, sessionIdLength);
+                    response.writeByte('"');
+                    break;
+                
+                case CLIENT_IP:
+                    if (scan.clientIpStart >= 0) {
+                        response.writeByte('"');
+                        response.writeBytes(request, scan.clientIpStart, scan.clientIpEnd - scan.clientIpStart);
+                        response.writeByte('"');
+                    } else {
+                        response.writeBytes(LITERAL_NULL);
+                    }
+                    break;
+                
+                case TIMESTAMP:
+                    writeDecimal(response, System.currentTimeMillis());
+                    break;
+            }
+        }
+        response.writeBytes(literals[slots.length]);
+        
+        return response;
+    }
+    
+    /**
+     * 최상위 객체의 type, session_id, client_ip 값 위치를 찾음
+     * 
+     * @return 스캔 결과 (JSON 형식이 아니거나 값에 이스케이프가 있으면 null)
+     */
+    private static Scan scan(ByteBuf buf) {
+        Scan scan = new Scan();
+        int end = buf.writerIndex();
+        int depth = 0;
+        int i = buf.readerIndex();
+        
+        while (i < end) {
+            byte b = buf.getByte(i);
+            
+            if (b == '"') {
+                int keyStart = i + 1;
+                int keyEnd = findStringEnd(buf, keyStart, end);
+                if (keyEnd < 0) {
+                    return null;
+                }
+                i = keyEnd + 1;
+                
+                if (depth != 1) {
+                    continue;
+                }
+                
+                int j = skipWhitespace(buf, i, end);
+                if (j >= end || buf.getByte(j) != ':') {
+                    continue;
+                }
+                j = skipWhitespace(buf, j + 1, end);
+                if (j >= end) {
+                    return null;
+                }
+                
+                byte[] key = matchKey(buf, keyStart, keyEnd);
+                if (key == null) {
+                    i = j;
+                    continue;
+                }
+                
+                if (buf.getByte(j) == '"') {
+                    int valueStart = j + 1;
+                    int valueEnd = findStringEnd(buf, valueStart, end);
+                    if (valueEnd < 0 || hasEscape(buf, valueStart, valueEnd)) {
+                        return null;
+                    }
+                    
+                    if (key == KEY_TYPE) {
+                        scan.heartbeat = equalsBytes(buf, valueStart, valueEnd, VALUE_HEARTBEAT);
+                        if (!scan.heartbeat) {
+                            return scan;
+                        }
+                    } else if (key == KEY_SESSION_ID) {
+                        scan.sessionIdStart = valueStart;
+                        scan.sessionIdEnd = valueEnd;
+                    } else {
+                        scan.clientIpStart = valueStart;
+                        scan.clientIpEnd = valueEnd;
+                    }
+                    i = valueEnd + 1;
+                    continue;
+                }
+                
+                // 문자열이 아닌 값 - null이면 값 없음으로 처리, type이면 heartbeat 아님
+                if (key == KEY_TYPE) {
+                    return scan;
+                }
+                i = j;
+                continue;
+            }
+            
+            if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            }
+            i++;
+        }
+        
+        return depth == 0 ? scan : null;
+    }
+    
+    /**
+     * 닫는 따옴표 위치 반환 (이스케이프된 따옴표는 건너뜀)
+     */
+    private static int findStringEnd(ByteBuf buf, int start, int end) {
+        for (int i = start; i < end; i++) {
+            byte b = buf.getByte(i);
+            if (b == '\\') {
+                i++;
+            } else if (b == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean hasEscape(ByteBuf buf, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buf.getByte(i) == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static int skipWhitespace(ByteBuf buf, int start, int end) {
+        int i = start;
+        while (i < end) {
+            byte b = buf.getByte(i);
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+    
+    private static byte[] matchKey(ByteBuf buf, int start, int end) {
+        if (equalsBytes(buf, start, end, KEY_TYPE)) {
+            return KEY_TYPE;
+        }
+        if (equalsBytes(buf, start, end, KEY_SESSION_ID)) {
+            return KEY_SESSION_ID;
+        }
+        if (equalsBytes(buf, start, end, KEY_CLIENT_IP)) {
+            return KEY_CLIENT_IP;
+        }
+        return null;
+    }
+    
+    private static boolean equalsBytes(ByteBuf buf, int start, int end, byte[] expected) {
+        if (end - start != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (buf.getByte(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+    
+    /**
+     * 양수 long 값을 ASCII 10진수로 기록 (문자열 할당 없음)
+     */
+    private static void writeDecimal(ByteBuf buf, long value) {
+        if (value == 0) {
+            buf.writeByte('0');
+            return;
+        }
+        
+        int digits = 0;
+        for (long v = value; v > 0; v /= 10) {
+            digits++;
+        }
+        
+        int index = buf.writerIndex() + digits - 1;
+        buf.ensureWritable(digits);
+        for (long v = value; v > 0; v /= 10) {
+            buf.setByte(index--, (int) ('0' + v % 10));
+        }
+        buf.writerIndex(buf.writerIndex() + digits);
+    }
+    
+    /**
+     * 스캔 결과 (값 위치는 요청 버퍼 기준 절대 인덱스, 따옴표 제외)
+     */
+    private static final class Scan {
+        private boolean heartbeat;
+        private int sessionIdStart = -1;
+        private int sessionIdEnd = -1;
+        private int clientIpStart = -1;
+        private int clientIpEnd = -1;
+    }
+}
@@ -1,6 +1,8 @@
 package com.in.amas.insupclient.protocol;
 
 import com.in.amas.insupclient.dto.InsupcMessage;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * INSUPC와의 TCP 프로토콜 파서
@@ -20,6 +23,7 @@ import java.util.UUID;
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class InsupcProtocolParser {
     
     // INSUP 프로토콜 상수 (C++ 구현과 동일)
@@ -40,6 +44,11 @@ public class InsupcProtocolParser {
     private static final int INSUP_HEADER_DUMMY_SIZE = 1;
     private static final int INSUP_HEADER_ACK_SIZE = 1;
     
+    // 같은 밀리초에 생성된 세션 ID를 구분하기 위한 순번
+    private final AtomicInteger sessionSequence = new AtomicInteger(0);
+    
+    private final HotPathLogPolicy hotPathLogPolicy;
+    
     /**
      * 바이트 배열을 InsupcMessage로 파싱
      * 
@@ -124,8 +133,10 @@ public class InsupcProtocolParser {
                     .parameters(parameters)
                     .build();
             
-            log.info(">>> INSUPC 메시지 파싱 완료 - 코드: {}, 세션: {}, 파라미터 수: {}", 
-                    msgCode, sessionId, paramCount);
+            if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(HotPathLogPolicy.Category.INSUPC_PROTOCOL, sessionId)) {
+                log.info(">>> INSUPC 메시지 파싱 완료 - 코드: {}, 세션: {}, 파라미터 수: {}", 
+                        msgCode, sessionId, paramCount);
+            }
             
             return message;
             
@@ -208,8 +219,11 @@ public class InsupcProtocolParser {
             buffer.flip();
             buffer.get(result);
             
-            log.info("<<< INSUPC 메시지 직렬화 완료 - 코드: {}, 세션: {}, 전체크기: {} bytes, 바디크기: {} bytes", 
-                    message.getMsgCode(), message.getSessionId(), totalSize, bodySize);
+            if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(
+                    HotPathLogPolicy.Category.INSUPC_PROTOCOL, message.getSessionId())) {
+                log.info("<<< INSUPC 메시지 직렬화 완료 - 코드: {}, 세션: {}, 전체크기: {} bytes, 바디크기: {} bytes", 
+                        message.getMsgCode(), message.getSessionId(), totalSize, bodySize);
+            }
             
             return result;
             
@@ -268,8 +282,19 @@ public class InsupcProtocolParser {
      * @return 질의 요청 메시지
      */
     public InsupcMessage createQueryRequest(String apiName, List<String> inputValues, int inasId) {
-        String sessionId = generateSessionId();
-        
+        return createQueryRequest(apiName, inputValues, inasId, generateSessionId());
+    }
+    
+    /**
+     * 질의 요청 메시지 생성 - 세션 ID 지정
+     * 
+     * @param apiName API 이름 (예: mcidPstnGetInfoV2)
+     * @param inputValues 입력 파라미터 배열
+     * @param inasId INAS ID
+     * @param sessionId 세션 ID (응답 매칭 키, 최대 30바이트)
+     * @return 질의 요청 메시지
+     */
+    public InsupcMessage createQueryRequest(String apiName, List<String> inputValues, int inasId, String sessionId) {
         List<InsupcMessage.InsupcParameter> parameters = new ArrayList<>();
         
         // DB Operation Name 파라미터 (C++ generate_insup_db_operation_name_parameter와 동일)
@@ -533,8 +558,9 @@ public class InsupcProtocolParser {
     
     /**
      * 세션 ID 생성
+     * INSUPC 응답을 요청과 매칭하는 키로 사용되므로 동시 요청 간에 중복되지 않아야 함 (최대 30바이트)
      */
     private String generateSessionId() {
-        return String.valueOf(System.currentTimeMillis()).substring(0, 13);
+        return System.currentTimeMillis() + "_" + (sessionSequence.incrementAndGet() & Integer.MAX_VALUE);
     }
 }
@@ -2,6 +2,7 @@ package com.in.amas.insupclient.protocol;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,7 @@ import java.nio.charset.StandardCharsets;
 public class SipsvcProtocolParser {
     
     private final ObjectMapper objectMapper;
+    private final HotPathLogPolicy hotPathLogPolicy;
     
     /**
      * JSON 바이트 배열을 SipsvcMessage로 파싱
@@ -40,8 +42,11 @@ public class SipsvcProtocolParser {
                 message.setTimestamp(System.currentTimeMillis());
             }
             
-            log.info(">>> sipsvc 메시지 파싱 완료 - 타입: {}, 세션: {}, 클라이언트: {}", 
-                    message.getType(), message.getSessionId(), message.getClientIp());
+            if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(
+                    HotPathLogPolicy.Category.SIPSVC_PROTOCOL, hotPathLogPolicy.isTraced(message))) {
+                log.info(">>> sipsvc 메시지 파싱 완료 - 타입: {}, 세션: {}, 클라이언트: {}", 
+                        message.getType(), message.getSessionId(), message.getClientIp());
+            }
             
             return message;
             
@@ -70,8 +75,11 @@ public class SipsvcProtocolParser {
             
             byte[] data = jsonString.getBytes(StandardCharsets.UTF_8);
             
-            log.info("<<< sipsvc 메시지 직렬화 완료 - 타입: {}, 세션: {}, 크기: {} bytes", 
-                    message.getType(), message.getSessionId(), data.length);
+            if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(
+                    HotPathLogPolicy.Category.SIPSVC_PROTOCOL, hotPathLogPolicy.isTraced(message))) {
+                log.info("<<< sipsvc 메시지 직렬화 완료 - 타입: {}, 세션: {}, 크기: {} bytes", 
+                        message.getType(), message.getSessionId(), data.length);
+            }
             
             return data;
             
@@ -137,6 +145,7 @@ public class SipsvcProtocolParser {
                 .data(data)
                 .resultCode(resultCode)
                 .resultMessage(resultMessage)
+                .trace(request.getTrace())
                 .timestamp(System.currentTimeMillis())
                 .build();
     }
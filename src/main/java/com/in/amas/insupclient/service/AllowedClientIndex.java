@@ -0,0 +1,104 @@
+package com.in.amas.insupclient.service;
+
+import com.in.amas.insupclient.config.SecurityConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 허용 클라이언트 인증 색인 (불변)
+ * 
+ * 허용 클라이언트 목록을 IP|MAC 키의 해시 맵으로 만들어 인증 시 목록 전체를 훑지 않고 한 번에 찾음
+ * 인증키는 바이트 배열로 보관하고 MessageDigest.isEqual로 비교하여 비교 시간이 일치 길이에 따라 달라지지 않게 함
+ * 설정이 바뀌면 새 색인을 만들어 통째로 교체하며, version으로 재적재 여부를 확인함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public final class AllowedClientIndex {
+    
+    // 색인에 없는 IP|MAC도 같은 비용의 비교를 수행하기 위한 더미 키
+    private static final byte[] DUMMY_KEY = new byte[32];
+    
+    private final Map<String, Entry> entries;
+    private final long version;
+    
+    private AllowedClientIndex(Map<String, Entry> entries, long version) {
+        this.entries = entries;
+        this.version = version;
+    }
+    
+    /**
+     * 허용 클라이언트 목록으로 색인 생성
+     * 같은 IP|MAC이 중복되면 먼저 나온 항목을 사용 (기존 목록 순회 방식과 동일)
+     * 
+     * @param allowedClients 허용 클라이언트 목록 (null 허용)
+     * @param version 색인 버전
+     * @return 색인
+     */
+    public static AllowedClientIndex build(List<SecurityConfig.AllowedClient> allowedClients, long version) {
+        if (allowedClients == null || allowedClients.isEmpty()) {
+            return new AllowedClientIndex(Collections.emptyMap(), version);
+        }
+        
+        Map<String, Entry> entries = new HashMap<>(allowedClients.size() * 2);
+        for (SecurityConfig.AllowedClient client : allowedClients) {
+            if (client.getIp() == null || client.getMac() == null || client.getAuthKey() == null) {
+                continue;
+            }
+            entries.putIfAbsent(key(client.getIp(), client.getMac()), new Entry(client));
+        }
+        
+        return new AllowedClientIndex(entries, version);
+    }
+    
+    /**
+     * 인증 정보와 일치하는 허용 클라이언트 조회
+     * 
+     * @param clientIp 클라이언트 IP
+     * @param macAddress MAC 주소
+     * @param authKey 인증키
+     * @return 일치하는 허용 클라이언트 (없으면 null)
+     */
+    public SecurityConfig.AllowedClient find(String clientIp, String macAddress, String authKey) {
+        if (clientIp == null || macAddress == null || authKey == null) {
+            return null;
+        }
+        
+        Entry entry = entries.get(key(clientIp, macAddress));
+        byte[] presented = authKey.getBytes(StandardCharsets.UTF_8);
+        
+        if (entry == null) {
+            MessageDigest.isEqual(DUMMY_KEY, presented);
+            return null;
+        }
+        
+        return MessageDigest.isEqual(entry.authKey, presented) ? entry.client : null;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public int size() {
+        return entries.size();
+    }
+    
+    private static String key(String ip, String mac) {
+        return ip + "|" + mac;
+    }
+    
+    private static final class Entry {
+        private final SecurityConfig.AllowedClient client;
+        private final byte[] authKey;
+        
+        private Entry(SecurityConfig.AllowedClient client) {
+            this.client = client;
+            this.authKey = client.getAuthKey().getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
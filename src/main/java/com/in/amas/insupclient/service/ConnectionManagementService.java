@@ -6,6 +6,10 @@ import com.in.amas.insupclient.dto.InsupcMessage;
 import com.in.amas.insupclient.config.SecurityConfig;
 import com.in.amas.insupclient.tcp.SipsvcTcpServer;
 import com.in.amas.insupclient.tcp.InsupcTcpClient;
+import com.in.amas.insupclient.util.TokenBucket;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,13 +17,14 @@ import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 클라이언트 연결 관리 서비스
@@ -43,25 +48,38 @@ public class ConnectionManagementService {
     // 클라이언트 연결 정보 저장
     private final Map<String, ClientConnectionInfo> clientConnections = new ConcurrentHashMap<>();
     
-    // 연결 정리용 스케줄러
-    private ScheduledExecutorService connectionCleanupScheduler;
+    // 허용 클라이언트 인증 색인 - 설정 재적재 시 새 색인으로 통째로 교체
+    private volatile AllowedClientIndex allowedClientIndex = AllowedClientIndex.build(null, 0);
+    
+    // 클라이언트별 execute 요청 속도 제한 버킷 (클라이언트 ID -> 버킷) - 색인과 함께 재생성하여 통째로 교체
+    private volatile Map<String, TokenBucket> clientRateLimiters = Map.of();
+    private final LongAdder rateLimitedCount = new LongAdder();
+    
+    // 모니터링용 전역 집계 - 변경 시점에 갱신하여 조회 시 연결 맵을 순회하지 않음
+    private final LongAdder totalRequestCount = new LongAdder();
+    private final AtomicInteger authenticatedConnectionCount = new AtomicInteger(0);
+    
+    @Value("${tcp.server.idle-timer-tick-ms:1000}")
+    private long idleTimerTickMs;
+    
+    // 연결 유휴 타임아웃용 공유 timing wheel
+    // 활동 시에는 마지막 활동 시간만 갱신하고, 예약이 만료되면 남은 시간만큼 다시 예약함 (지연 재예약)
+    private HashedWheelTimer idleTimer;
+    
     
-
     
     @PostConstruct
     public void initialize() {
         log.info("ConnectionManagementService 초기화 - 연결 타임아웃: {}ms", connectionTimeout);
         
-        // 연결 정리 스케줄러 시작 (매 1분마다 실행)
-        connectionCleanupScheduler = Executors.newScheduledThreadPool(1);
-        connectionCleanupScheduler.scheduleWithFixedDelay(
-                this::cleanupTimedOutConnections,
-                60,  // 초기 지연
-                60,  // 실행 간격
-                TimeUnit.SECONDS
-        );
+        reloadAllowedClients();
+        
+        // 연결 유휴 타이머 시작 (2시간 타임아웃 기준 한 바퀴 512틱)
+        idleTimer = new HashedWheelTimer(new DefaultThreadFactory("idle-timer", true), 
+                idleTimerTickMs, TimeUnit.MILLISECONDS, 512);
+        idleTimer.start();
         
-        log.info("연결 타임아웃 정리 스케줄러 시작됨");
+        log.info("연결 유휴 타이머 시작됨 - 틱: {}ms", idleTimerTickMs);
     }
     
     /**
@@ -81,11 +99,11 @@ public class ConnectionManagementService {
                 .lastActivityTime(System.currentTimeMillis())
                 .authenticated(false)
                 .active(true)
-                .totalRequests(0)
                 .lastHeartbeatTime(0)
                 .build();
         
         clientConnections.put(connectionId, connectionInfo);
+        scheduleIdleCheck(connectionInfo, connectionTimeout);
         
         log.info("새로운 클라이언트 연결 등록 - ID: {}, IP: {}, Port: {}", 
                 connectionId, clientIp, clientPort);
@@ -102,6 +120,18 @@ public class ConnectionManagementService {
         ClientConnectionInfo connectionInfo = clientConnections.remove(connectionId);
         
         if (connectionInfo != null) {
+            Timeout idleTimeout = connectionInfo.getIdleTimeout();
+            if (idleTimeout != null) {
+                idleTimeout.cancel();
+            }
+            
+            synchronized (connectionInfo) {
+                if (connectionInfo.isAuthenticated()) {
+                    connectionInfo.setAuthenticated(false);
+                    authenticatedConnectionCount.decrementAndGet();
+                }
+            }
+            
             log.info("클라이언트 연결 해제 - ID: {}, IP: {}, 지속시간: {}ms, 총 요청수: {}", 
                     connectionId, 
                     connectionInfo.getClientIp(),
@@ -112,6 +142,75 @@ public class ConnectionManagementService {
         }
     }
     
+    /**
+     * 허용 클라이언트 인증 색인 재생성
+     * 현재 SecurityConfig의 허용 클라이언트 목록으로 새 색인을 만들어 원자적으로 교체함
+     * 진행 중인 인증은 교체 전 색인 또는 교체 후 색인 중 하나를 일관되게 사용함
+     * 클라이언트별 속도 제한 버킷도 새 설정으로 다시 만들어, 인증된 기존 연결의 버킷을 교체함
+     * (설정에서 빠졌거나 제한이 없어진 클라이언트의 연결은 제한 해제)
+     */
+    public synchronized void reloadAllowedClients() {
+        AllowedClientIndex index = AllowedClientIndex.build(
+                securityConfig.getAllowedClients(), allowedClientIndex.getVersion() + 1);
+        Map<String, TokenBucket> rateLimiters = buildRateLimiters(securityConfig.getAllowedClients());
+        allowedClientIndex = index;
+        clientRateLimiters = rateLimiters;
+        
+        for (ClientConnectionInfo connectionInfo : clientConnections.values()) {
+            if (connectionInfo.isAuthenticated() && connectionInfo.getClientId() != null) {
+                connectionInfo.setRateLimiter(rateLimiters.get(connectionInfo.getClientId()));
+            }
+        }
+        
+        log.info("허용 클라이언트 인증 색인 생성 - 클라이언트 수: {}, 버전: {}", index.size(), index.getVersion());
+    }
+    
+    /**
+     * 허용 클라이언트 목록으로 클라이언트별 속도 제한 버킷 생성
+     * 색인과 같이 IP/MAC이 중복되면 먼저 나온 항목을 사용
+     */
+    private static Map<String, TokenBucket> buildRateLimiters(List<SecurityConfig.AllowedClient> allowedClients) {
+        if (allowedClients == null || allowedClients.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<String, TokenBucket> rateLimiters = new HashMap<>();
+        for (SecurityConfig.AllowedClient client : allowedClients) {
+            if (client.getIp() == null || client.getMac() == null || client.getAuthKey() == null
+                    || rateLimiters.containsKey(client.getClientId())) {
+                continue;
+            }
+            if (client.getRateLimit() > 0) {
+                int burst = client.getBurst() > 0 ? client.getBurst() : (int) Math.ceil(client.getRateLimit());
+                rateLimiters.put(client.getClientId(), new TokenBucket(client.getRateLimit(), burst));
+            } else {
+                rateLimiters.put(client.getClientId(), null);
+            }
+        }
+        return rateLimiters;
+    }
+    
+    /**
+     * 연결의 인증 요청 처리
+     * 인증에 성공하면 허용 클라이언트 정보를 연결에 반영함
+     * 
+     * @param connectionId 연결 ID
+     * @param clientIp 클라이언트 IP
+     * @param macAddress MAC 주소
+     * @param authKey 인증키
+     * @return 일치하는 허용 클라이언트 (인증 실패 시 null)
+     */
+    public SecurityConfig.AllowedClient authenticateConnection(String connectionId, String clientIp, 
+                                                               String macAddress, String authKey) {
+        SecurityConfig.AllowedClient matched = findAllowedClient(clientIp, macAddress, authKey);
+        
+        if (matched != null) {
+            updateClientAuthentication(connectionId, matched);
+        }
+        
+        return matched;
+    }
+    
     /**
      * 클라이언트 인증 검증
      * 
@@ -121,24 +220,29 @@ public class ConnectionManagementService {
      * @return 인증 성공 여부
      */
     public boolean authenticateClient(String clientIp, String macAddress, String authKey) {
+        return findAllowedClient(clientIp, macAddress, authKey) != null;
+    }
+    
+    /**
+     * 인증 정보와 일치하는 허용 클라이언트 조회
+     * 
+     * @param clientIp 클라이언트 IP
+     * @param macAddress MAC 주소
+     * @param authKey 인증키
+     * @return 일치하는 허용 클라이언트 (인증 실패 시 null)
+     */
+    public SecurityConfig.AllowedClient findAllowedClient(String clientIp, String macAddress, String authKey) {
         log.info("클라이언트 인증 시도 - IP: {}, MAC: {}", clientIp, macAddress);
         
-        List<SecurityConfig.AllowedClient> allowedClients = securityConfig.getAllowedClients();
+        SecurityConfig.AllowedClient matched = allowedClientIndex.find(clientIp, macAddress, authKey);
         
-        boolean isAuthenticated = allowedClients.stream()
-                .anyMatch(client -> 
-                        client.getIp().equals(clientIp) &&
-                        client.getMac().equals(macAddress) &&
-                        client.getAuthKey().equals(authKey)
-                );
-        
-        if (isAuthenticated) {
+        if (matched != null) {
             log.info("클라이언트 인증 성공 - IP: {}, MAC: {}", clientIp, macAddress);
         } else {
             log.warn("클라이언트 인증 실패 - IP: {}, MAC: {}", clientIp, macAddress);
         }
         
-        return isAuthenticated;
+        return matched;
     }
     
     /**
@@ -151,7 +255,20 @@ public class ConnectionManagementService {
         ClientConnectionInfo connectionInfo = clientConnections.get(connectionId);
         
         if (connectionInfo != null) {
-            connectionInfo.setAuthenticated(authenticated);
+            synchronized (connectionInfo) {
+                // 해제된 연결은 집계에서 이미 빠졌으므로 상태를 바꾸지 않음
+                if (clientConnections.get(connectionId) != connectionInfo) {
+                    return;
+                }
+                if (connectionInfo.isAuthenticated() != authenticated) {
+                    connectionInfo.setAuthenticated(authenticated);
+                    if (authenticated) {
+                        authenticatedConnectionCount.incrementAndGet();
+                    } else {
+                        authenticatedConnectionCount.decrementAndGet();
+                    }
+                }
+            }
             connectionInfo.updateActivity();
             
             log.info("클라이언트 인증 상태 업데이트 - ID: {}, 인증: {}", connectionId, authenticated);
@@ -159,16 +276,82 @@ public class ConnectionManagementService {
     }
     
     /**
-     * 클라이언트 heartbeat 업데이트
+     * 인증된 클라이언트 정보를 연결에 반영하고 클라이언트별 속도 제한 버킷 할당
      * 
      * @param connectionId 연결 ID
+     * @param client 인증된 허용 클라이언트
      */
-    public void updateClientHeartbeat(String connectionId) {
+    public void updateClientAuthentication(String connectionId, SecurityConfig.AllowedClient client) {
         ClientConnectionInfo connectionInfo = clientConnections.get(connectionId);
         
+        if (connectionInfo == null) {
+            return;
+        }
+        
+        connectionInfo.setMacAddress(client.getMac());
+        connectionInfo.setAuthKey(client.getAuthKey());
+        connectionInfo.setDescription(client.getDescription());
+        connectionInfo.setClientId(client.getClientId());
+        connectionInfo.setWeight(client.getWeight());
+        connectionInfo.setRateLimiter(clientRateLimiters.get(client.getClientId()));
+        
+        updateClientAuthentication(connectionId, true);
+    }
+    
+    /**
+     * execute 요청 속도 제한 확인 (Netty 이벤트 루프에서 호출, 잠금 없음)
+     * 
+     * @param connectionId 연결 ID
+     * @return 허용 여부
+     */
+    public boolean tryAcquireRequest(String connectionId) {
+        return tryAcquireRequest(clientConnections.get(connectionId));
+    }
+    
+    /**
+     * execute 요청 속도 제한 확인 (Netty 이벤트 루프에서 호출, 잠금 없음)
+     * 
+     * @param connectionInfo 연결 정보 (null이면 허용)
+     * @return 허용 여부
+     */
+    public boolean tryAcquireRequest(ClientConnectionInfo connectionInfo) {
+        if (connectionInfo == null || connectionInfo.tryAcquireRequest()) {
+            return true;
+        }
+        
+        rateLimitedCount.increment();
+        log.debug("클라이언트 요청 속도 제한 초과 - ID: {}, 누적 거절: {}", 
+                connectionInfo.getConnectionId(), connectionInfo.getRateLimitedRequests());
+        return false;
+    }
+    
+    /**
+     * 속도 제한으로 거절된 전체 요청 수
+     * 
+     * @return 거절 요청 수
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount.sum();
+    }
+    
+    /**
+     * 클라이언트 heartbeat 업데이트
+     * 
+     * @param connectionId 연결 ID
+     */
+    public void updateClientHeartbeat(String connectionId) {
+        updateClientHeartbeat(clientConnections.get(connectionId));
+    }
+    
+    /**
+     * 클라이언트 heartbeat 업데이트
+     * 
+     * @param connectionInfo 연결 정보 (null이면 무시)
+     */
+    public void updateClientHeartbeat(ClientConnectionInfo connectionInfo) {
         if (connectionInfo != null) {
             connectionInfo.updateHeartbeat();
-            log.debug("클라이언트 heartbeat 업데이트 - ID: {}", connectionId);
+            log.debug("클라이언트 heartbeat 업데이트 - ID: {}", connectionInfo.getConnectionId());
         }
     }
     
@@ -189,10 +372,18 @@ public class ConnectionManagementService {
      * @param connectionId 연결 ID
      */
     public void incrementClientRequests(String connectionId) {
-        ClientConnectionInfo connectionInfo = clientConnections.get(connectionId);
-        
+        incrementClientRequests(clientConnections.get(connectionId));
+    }
+    
+    /**
+     * 클라이언트 요청 수 증가
+     * 
+     * @param connectionInfo 연결 정보 (null이면 무시)
+     */
+    public void incrementClientRequests(ClientConnectionInfo connectionInfo) {
         if (connectionInfo != null) {
             connectionInfo.incrementRequests();
+            totalRequestCount.increment();
         }
     }
     
@@ -215,17 +406,37 @@ public class ConnectionManagementService {
         }
     }
     
+    /**
+     * sipsvc로 메시지 전송 - 연결 컨텍스트의 채널로 직접 전송
+     * 
+     * @param connectionInfo 연결 정보
+     * @param message 전송할 메시지
+     */
+    public void sendToSipsvc(ClientConnectionInfo connectionInfo, SipsvcMessage message) {
+        log.info("sipsvc로 메시지 전송 - 연결 ID: {}, 타입: {}", connectionInfo.getConnectionId(), message.getType());
+        
+        try {
+            sipsvcTcpServer.sendMessage(connectionInfo, message);
+            log.debug("sipsvc 메시지 전송 완료 - 연결 ID: {}, 결과 코드: {}", 
+                    connectionInfo.getConnectionId(), message.getResultCode());
+        } catch (Exception e) {
+            log.error("sipsvc 메시지 전송 실패 - 연결 ID: {}, 오류: {}", 
+                    connectionInfo.getConnectionId(), e.getMessage(), e);
+        }
+    }
+    
     /**
      * INSUPC로 메시지 전송
      * 
      * @param message 전송할 메시지
      * @param requestId 요청 ID
+     * @param correlationId 상관 ID
      */
-    public void sendToInsupc(InsupcMessage message, String requestId) {
-        log.info("INSUPC로 메시지 전송 - 요청 ID: {}, 코드: {}", requestId, message.getCode());
+    public void sendToInsupc(InsupcMessage message, String requestId, long correlationId) {
+        log.info("INSUPC로 메시지 전송 - 요청 ID: {}, 코드: {}", requestId, message.getMsgCode());
         
         try {
-            boolean success = insupcTcpClient.sendMessage(message, requestId);
+            boolean success = insupcTcpClient.sendMessage(message, requestId, correlationId);
             if (success) {
                 log.debug("INSUPC 메시지 전송 완료 - 요청 ID: {}, 세션 ID: {}", 
                         requestId, message.getSessionId());
@@ -239,38 +450,60 @@ public class ConnectionManagementService {
     }
     
     /**
-     * 타임아웃된 연결 정리
+     * INSUPC로 메시지 비동기 전송
+     * 
+     * @param message 전송할 메시지
+     * @param requestId 요청 ID
+     * @param correlationId 상관 ID
+     * @return INSUPC 응답 future
+     */
+    public CompletableFuture<InsupcMessage> sendToInsupcAsync(InsupcMessage message, String requestId, 
+                                                              long correlationId) {
+        log.debug("INSUPC로 메시지 비동기 전송 - 요청 ID: {}, 코드: {}", requestId, message.getMsgCode());
+        return insupcTcpClient.sendMessageAsync(message, requestId, correlationId);
+    }
+    
+    /**
+     * 유휴 타임아웃 확인 예약
+     */
+    private void scheduleIdleCheck(ClientConnectionInfo connectionInfo, long delayMillis) {
+        connectionInfo.setIdleTimeout(idleTimer.newTimeout(
+                timeout -> checkIdle(connectionInfo), delayMillis, TimeUnit.MILLISECONDS));
+    }
+    
+    /**
+     * 유휴 타임아웃 확인 (유휴 타이머 스레드에서 실행)
+     * 예약 이후 활동이 있었으면 마지막 활동 기준 남은 시간만큼 다시 예약하고,
+     * 활동이 없었으면 연결을 해제함
      */
-    public void cleanupTimedOutConnections() {
+    private void checkIdle(ClientConnectionInfo connectionInfo) {
+        String connectionId = connectionInfo.getConnectionId();
+        
+        // 이미 해제된 연결 (해제와 재예약이 겹친 경우)
+        if (clientConnections.get(connectionId) != connectionInfo) {
+            return;
+        }
+        
         try {
-            long currentTime = System.currentTimeMillis();
-            
-            List<String> timedOutConnections = clientConnections.entrySet().stream()
-                    .filter(entry -> entry.getValue().isTimedOut(connectionTimeout))
-                    .map(Map.Entry::getKey)
-                    .collect(Collectors.toList());
+            long idleMillis = System.currentTimeMillis() - connectionInfo.getLastActivityTime();
+            long remainingMillis = connectionTimeout - idleMillis;
             
-            for (String connectionId : timedOutConnections) {
-                ClientConnectionInfo connectionInfo = clientConnections.get(connectionId);
-                
-                log.warn("연결 타임아웃으로 해제 - ID: {}, IP: {}, 마지막 활동: {}ms 전", 
-                        connectionId, 
-                        connectionInfo.getClientIp(),
-                        currentTime - connectionInfo.getLastActivityTime());
-                
-                // 연결 해제
-                unregisterConnection(connectionId);
-                
-                // 실제 TCP 연결 종료
-                sipsvcTcpServer.closeConnection(connectionId);
+            if (remainingMillis > 0) {
+                scheduleIdleCheck(connectionInfo, remainingMillis);
+                return;
             }
             
-            if (!timedOutConnections.isEmpty()) {
-                log.info("타임아웃된 연결 정리 완료 - {} 개 연결 해제", timedOutConnections.size());
-            }
+            log.warn("연결 타임아웃으로 해제 - ID: {}, IP: {}, 마지막 활동: {}ms 전", 
+                    connectionId, connectionInfo.getClientIp(), idleMillis);
+            
+            // 연결 해제
+            unregisterConnection(connectionId);
+            
+            // 실제 TCP 연결 종료
+            sipsvcTcpServer.closeConnection(connectionId);
             
         } catch (Exception e) {
-            log.error("연결 타임아웃 정리 중 오류: {}", e.getMessage(), e);
+            log.error("연결 타임아웃 처리 중 오류 - ID: {}, 오류: {}", connectionId, e.getMessage(), e);
         }
     }
     
@@ -284,21 +517,11 @@ public class ConnectionManagementService {
         
         Map<String, Object> status = new ConcurrentHashMap<>();
         status.put("total_connections", clientConnections.size());
+        status.put("authenticated_connections", getAuthenticatedConnectionCount());
         
-        long authenticatedCount = clientConnections.values().stream()
-                .filter(ClientConnectionInfo::isAuthenticated)
-                .count();
-        status.put("authenticated_connections", authenticatedCount);
-        
-        long activeCount = clientConnections.values().stream()
-                .filter(conn -> !conn.isTimedOut(connectionTimeout))
-                .count();
-        status.put("active_connections", activeCount);
-        
-        long totalRequests = clientConnections.values().stream()
-                .mapToLong(ClientConnectionInfo::getTotalRequests)
-                .sum();
-        status.put("total_requests", totalRequests);
+        // 유휴 타임아웃된 연결은 유휴 타이머가 틱 단위로 즉시 해제하므로 등록된 연결이 곧 활성 연결
+        status.put("active_connections", clientConnections.size());
+        status.put("total_requests", getTotalRequestCount());
         
         status.put("connection_timeout_ms", connectionTimeout);
         status.put("current_time", currentTime);
@@ -306,6 +529,24 @@ public class ConnectionManagementService {
         return status;
     }
     
+    /**
+     * 인증된 연결 수
+     * 
+     * @return 인증된 연결 수
+     */
+    public int getAuthenticatedConnectionCount() {
+        return authenticatedConnectionCount.get();
+    }
+    
+    /**
+     * 서버 시작 이후 수신한 전체 요청 수
+     * 
+     * @return 요청 수
+     */
+    public long getTotalRequestCount() {
+        return totalRequestCount.sum();
+    }
+    
     /**
      * 특정 연결 정보 조회
      * 
@@ -329,17 +570,8 @@ public class ConnectionManagementService {
     public void shutdown() {
         log.info("ConnectionManagementService 종료 시작");
         
-        if (connectionCleanupScheduler != null && !connectionCleanupScheduler.isShutdown()) {
-            connectionCleanupScheduler.shutdown();
-            
-            try {
-                if (!connectionCleanupScheduler.awaitTermination(10, TimeUnit.SECONDS)) {
-                    connectionCleanupScheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                connectionCleanupScheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
+        if (idleTimer != null) {
+            idleTimer.stop();
         }
         
         // 모든 연결 정보 로그 출력
@@ -0,0 +1,134 @@
+package com.in.amas.insupclient.service;
+
+import com.in.amas.insupclient.config.DeadlineConfig;
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.dto.WorkerMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 처리 기한(deadline) 관리 서비스
+ * 
+ * execute 요청의 처리 기한을 sipsvc의 timeout_ms 또는 서비스별 기본값으로 정하고,
+ * 큐 진입 전, INSUPC 전송 전, sipsvc 응답 전송 전에 기한이 지난 요청을 걸러냄
+ * 호출자가 이미 포기한 요청으로 INSUPC DB 용량을 낭비하지 않기 위함
+ * 
+ * 기한은 sipsvc가 요청을 보낸 시각(timestamp)부터 계산하되, 서버 간 시계 차이만큼 요청에 유리하게 보정
+ * (timestamp + 허용 시계 차이와 우리 쪽 수신 시각 중 이른 시각 기준)
+ * sipsvc 송신 대기나 전송 지연으로 도착 시점에 이미 기한이 지난 요청은 큐 진입 전에 폐기됨
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadlineService {
+    
+    private final DeadlineConfig deadlineConfig;
+    
+    private final AtomicLong[] expiredCounts = createCounters();
+    
+    /**
+     * 처리 기한 검사 단계
+     */
+    public enum Stage {
+        /**
+         * 워커 큐 진입 전
+         */
+        BEFORE_QUEUE,
+        
+        /**
+         * INSUPC 질의 전송 전
+         */
+        BEFORE_INSUPC_SEND,
+        
+        /**
+         * sipsvc 응답 전송 전
+         */
+        BEFORE_RESPONSE
+    }
+    
+    /**
+     * 메시지에 처리 기한 설정 (execute 요청만 대상)
+     * 
+     * @param workerMessage sipsvc 요청 워커 메시지
+     */
+    public void assignDeadline(WorkerMessage workerMessage) {
+        SipsvcMessage sipsvcMessage = workerMessage.getSipsvcMessage();
+        
+        if (!deadlineConfig.isEnabled() || sipsvcMessage == null
+                || !SipsvcMessage.Type.EXECUTE.equals(sipsvcMessage.getType())) {
+            return;
+        }
+        
+        long timeoutMs = sipsvcMessage.getTimeoutMs() != null
+                ? sipsvcMessage.getTimeoutMs()
+                : deadlineConfig.getTimeoutMs(sipsvcMessage.getServiceCode());
+        
+        workerMessage.setDeadline(requestOrigin(sipsvcMessage.getTimestamp(), workerMessage.getReceivedTime()) 
+                + timeoutMs);
+    }
+    
+    /**
+     * 처리 기한 계산 기준 시각
+     * sipsvc 시계가 앞서 있을 수 있으므로 timestamp에 허용 시계 차이를 더한 값과 수신 시각 중 이른 값을 사용
+     * 
+     * @param timestamp sipsvc 요청 송신 시각 (epoch 밀리초, 0이면 없음)
+     * @param receivedTime 수신 시각 (epoch 밀리초)
+     * @return 기준 시각 (epoch 밀리초)
+     */
+    private long requestOrigin(long timestamp, long receivedTime) {
+        long maxClockSkewMs = deadlineConfig.getMaxClockSkewMs();
+        if (maxClockSkewMs < 0 || timestamp <= 0) {
+            return receivedTime;
+        }
+        return Math.min(receivedTime, timestamp + maxClockSkewMs);
+    }
+    
+    /**
+     * 처리 기한 경과 여부 확인 - 경과 시 단계별 카운터 증가
+     * 
+     * @param deadline 처리 기한 (epoch 밀리초, 0이면 기한 없음)
+     * @param stage 검사 단계
+     * @param requestId 요청 ID (로그용)
+     * @return 기한 경과 여부
+     */
+    public boolean checkExpired(long deadline, Stage stage, String requestId) {
+        if (deadline <= 0) {
+            return false;
+        }
+        
+        long overdue = System.currentTimeMillis() - deadline;
+        if (overdue < 0) {
+            return false;
+        }
+        
+        // 과부하 시 요청마다 발생하므로 건수는 카운터(지표)로 확인하고 개별 로그는 DEBUG로만 남김
+        long count = expiredCounts[stage.ordinal()].incrementAndGet();
+        log.debug("처리 기한 경과로 요청 폐기 - 요청 ID: {}, 단계: {}, 초과 시간: {}ms, 누적: {}",
+                requestId, stage, overdue, count);
+        return true;
+    }
+    
+    /**
+     * 단계별 기한 경과 폐기 건수 조회
+     * 
+     * @param stage 검사 단계
+     * @return 폐기 건수
+     */
+    public long getExpiredCount(Stage stage) {
+        return expiredCounts[stage.ordinal()].get();
+    }
+    
+    private static AtomicLong[] createCounters() {
+        AtomicLong[] counters = new AtomicLong[Stage.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new AtomicLong(0);
+        }
+        return counters;
+    }
+}
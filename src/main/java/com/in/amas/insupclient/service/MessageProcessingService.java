@@ -1,14 +1,20 @@
 package com.in.amas.insupclient.service;
 
+import com.in.amas.insupclient.config.PipelineConfig;
+import com.in.amas.insupclient.config.SecurityConfig;
+import com.in.amas.insupclient.dto.ClientConnectionInfo;
 import com.in.amas.insupclient.dto.WorkerMessage;
 import com.in.amas.insupclient.dto.SipsvcMessage;
 import com.in.amas.insupclient.dto.InsupcMessage;
+import com.in.amas.insupclient.journal.TransactionJournal;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
 import com.in.amas.insupclient.protocol.SipsvcProtocolParser;
 import com.in.amas.insupclient.protocol.InsupcProtocolParser;
 import com.in.amas.insupclient.tcp.SipsvcTcpServer;
 import com.in.amas.insupclient.tcp.InsupcTcpClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
@@ -18,6 +24,9 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * 메시지 처리 서비스
  * WorkerThread에서 호출되어 실제 비즈니스 로직을 처리
+ * EVENT_LOOP 파이프라인 모드에서는 Netty 이벤트 루프에서 직접 호출되며,
+ * execute 요청은 INSUPC 응답 future에 연결되어 논블로킹으로 처리됨
+ * execute 거래 결과는 요청별 INFO 로그 대신 거래 저널에 레코드로 기록됨
  * 
  * @author InComm
  * @version 1.0.0
@@ -30,9 +39,13 @@ public class MessageProcessingService {
     private final SipsvcProtocolParser sipsvcProtocolParser;
     private final InsupcProtocolParser insupcProtocolParser;
     private final ConnectionManagementService connectionManagementService;
+    private final PipelineConfig pipelineConfig;
+    private final DeadlineService deadlineService;
+    private final TransactionJournal transactionJournal;
+    private final HotPathLogPolicy hotPathLogPolicy;
     
-    // 요청-응답 매핑을 위한 맵 (요청 ID -> 연결 ID)
-    private final Map<String, String> requestConnectionMap = new ConcurrentHashMap<>();
+    // 요청-응답 매핑을 위한 맵 (상관 ID -> 연결 컨텍스트, 요청 ID, 전화번호, 처리 기한)
+    private final Map<Long, PendingRequest> requestConnectionMap = new ConcurrentHashMap<>();
     
     /**
      * sipsvc 요청 메시지 처리
@@ -44,33 +57,55 @@ public class MessageProcessingService {
         String connectionId = workerMessage.getConnectionId();
         String requestId = workerMessage.getRequestId();
         
-        log.info("sipsvc 요청 처리 시작 - 연결 ID: {}, 요청 ID: {}, 타입: {}", 
+        log.atLevel(transactionLogLevel()).log("sipsvc 요청 처리 시작 - 연결 ID: {}, 요청 ID: {}, 타입: {}", 
                 connectionId, requestId, sipsvcMessage.getType());
         
+        ClientConnectionInfo connection = resolveConnection(workerMessage);
+        if (connection == null) {
+            log.warn("이미 종료된 연결의 요청 - 처리하지 않음: 연결 ID: {}, 요청 ID: {}", connectionId, requestId);
+            return;
+        }
+        
         try {
             switch (sipsvcMessage.getType()) {
                 case SipsvcMessage.Type.AUTH:
-                    handleAuthRequest(sipsvcMessage, connectionId);
+                    handleAuthRequest(sipsvcMessage, connection);
                     break;
-                    
+                
                 case SipsvcMessage.Type.HEARTBEAT:
-                    handleHeartbeatRequest(sipsvcMessage, connectionId);
+                    handleHeartbeatRequest(sipsvcMessage, connection);
                     break;
-                    
+                
                 case SipsvcMessage.Type.EXECUTE:
-                    handleExecuteRequest(sipsvcMessage, connectionId, requestId);
+                    handleExecuteRequest(sipsvcMessage, connection, requestId, workerMessage.getCorrelationId(), 
+                            workerMessage.getReceivedTime(), workerMessage.getDeadline(), workerMessage.isTraced());
                     break;
-                    
+                
                 default:
                     log.warn("알 수 없는 sipsvc 메시지 타입: {}", sipsvcMessage.getType());
-                    sendErrorResponse(sipsvcMessage, connectionId, "Unknown message type");
+                    sendErrorResponse(sipsvcMessage, connection, "Unknown message type");
             }
             
         } catch (Exception e) {
             log.error("sipsvc 요청 처리 중 오류 - 연결 ID: {}, 요청 ID: {}, 오류: {}", 
                     connectionId, requestId, e.getMessage(), e);
-            sendErrorResponse(sipsvcMessage, connectionId, "Internal server error");
+            sendErrorResponse(sipsvcMessage, connection, "Internal server error");
+        }
+    }
+    
+    /**
+     * 메시지의 연결 컨텍스트 조회
+     * 수신 시 전달된 참조를 사용하며, 참조가 없는 메시지(직접 생성된 메시지 등)만 연결 ID로 조회
+     * 
+     * @return 연결 정보 (연결이 이미 종료되었으면 null)
+     */
+    private ClientConnectionInfo resolveConnection(WorkerMessage workerMessage) {
+        ClientConnectionInfo connection = workerMessage.getConnection();
+        if (connection != null) {
+            return connection;
         }
+        return workerMessage.getConnectionId() != null 
+                ? connectionManagementService.getConnectionInfo(workerMessage.getConnectionId()) : null;
     }
     
     /**
@@ -82,33 +117,64 @@ public class MessageProcessingService {
         InsupcMessage insupcMessage = workerMessage.getInsupcMessage();
         String requestId = workerMessage.getRequestId();
         
-        log.info("INSUPC 응답 처리 시작 - 요청 ID: {}, 코드: {}", 
-                requestId, insupcMessage.getMsgCode());
+        log.atLevel(transactionLogLevel()).log("INSUPC 응답 처리 시작 - 요청 ID: {}, 코드: {}", 
+                requestId, insupcMessage != null ? insupcMessage.getMsgCode() : null);
         
         try {
-            // 요청 ID로 원래 연결 찾기
-            String connectionId = requestConnectionMap.remove(requestId);
+            // 상관 ID로 원래 연결 찾기
+            PendingRequest pendingRequest = requestConnectionMap.remove(workerMessage.getCorrelationId());
             
-            if (connectionId == null) {
+            if (pendingRequest == null) {
                 log.warn("INSUPC 응답에 대응하는 연결을 찾을 수 없음 - 요청 ID: {}", requestId);
                 return;
             }
             
-            // INSUPC 응답을 sipsvc 응답으로 변환
-            SipsvcMessage responseMessage = convertInsupcToSipsvc(insupcMessage, requestId);
-            
-            // sipsvc로 응답 전송
-            connectionManagementService.sendToSipsvc(connectionId, responseMessage);
-            
-            log.info("INSUPC 응답을 sipsvc로 전달 완료 - 연결 ID: {}, 요청 ID: {}", 
-                    connectionId, requestId);
+            // 응답을 받기 전에 INSUPC 연결이 종료된 경우 오류 응답
+            if (insupcMessage == null) {
+                log.error("INSUPC 연결 종료로 질의 실패 - 요청 ID: {}", requestId);
+                sendErrorResponse(pendingRequest.request, pendingRequest.connection, "Failed to query INSUPC");
+                transactionJournal.record(TransactionJournal.Outcome.INSUPC_FAILED, workerMessage.getCorrelationId(), 
+                        pendingRequest.requestId, pendingRequest.request.getPhoneNumber(), 
+                        pendingRequest.receivedTime, null, SipsvcMessage.ResultCode.INTERNAL_ERROR);
+                return;
+            }
             
+            deliverInsupcResponse(insupcMessage, pendingRequest.connection, pendingRequest.requestId, 
+                    workerMessage.getCorrelationId(), pendingRequest.request.getPhoneNumber(), 
+                    pendingRequest.receivedTime, pendingRequest.deadline);
+                    
         } catch (Exception e) {
             log.error("INSUPC 응답 처리 중 오류 - 요청 ID: {}, 오류: {}", 
                     requestId, e.getMessage(), e);
         }
     }
     
+    /**
+     * INSUPC 응답을 sipsvc 응답으로 변환하여 원래 연결로 전송
+     */
+    private void deliverInsupcResponse(InsupcMessage insupcMessage, ClientConnectionInfo connection, 
+                                       String requestId, long correlationId, String phoneNumber, 
+                                       long receivedTime, long deadline) {
+        // 처리 기한이 지났으면 sipsvc가 더 이상 응답을 기다리지 않으므로 전송하지 않음
+        if (deadlineService.checkExpired(deadline, DeadlineService.Stage.BEFORE_RESPONSE, requestId)) {
+            transactionJournal.record(TransactionJournal.Outcome.EXPIRED, correlationId, requestId, phoneNumber, 
+                    receivedTime, insupcMessage, null);
+            return;
+        }
+        
+        // INSUPC 응답을 sipsvc 응답으로 변환
+        SipsvcMessage responseMessage = convertInsupcToSipsvc(insupcMessage, requestId);
+        
+        // sipsvc로 응답 전송
+        connectionManagementService.sendToSipsvc(connection, responseMessage);
+        
+        transactionJournal.record(TransactionJournal.Outcome.DELIVERED, correlationId, requestId, phoneNumber, 
+                receivedTime, insupcMessage, responseMessage.getResultCode());
+        
+        log.atLevel(transactionLogLevel()).log("INSUPC 응답을 sipsvc로 전달 완료 - 연결 ID: {}, 요청 ID: {}", 
+                connection.getConnectionId(), requestId);
+    }
+    
     /**
      * 메시지 처리 실패 시 호출
      * 
@@ -122,7 +188,8 @@ public class MessageProcessingService {
                 exception.getMessage(), exception);
         
         // 실패한 메시지에 대한 처리 (DLQ, 알림 등)
-        if (workerMessage.getMessageType() == WorkerMessage.MessageType.SIPSVC_REQUEST) {
+        ClientConnectionInfo connection = resolveConnection(workerMessage);
+        if (workerMessage.getMessageType() == WorkerMessage.MessageType.SIPSVC_REQUEST && connection != null) {
             SipsvcMessage errorResponse = sipsvcProtocolParser.createExecuteResponse(
                     workerMessage.getSipsvcMessage(),
                     null,
@@ -130,95 +197,197 @@ public class MessageProcessingService {
                     "Message processing failed: " + exception.getMessage()
             );
             
-            connectionManagementService.sendToSipsvc(
-                    workerMessage.getConnectionId(), 
-                    errorResponse
-            );
+            connectionManagementService.sendToSipsvc(connection, errorResponse);
         }
+        journalRequest(workerMessage, TransactionJournal.Outcome.FAILED);
         
         // 요청-응답 매핑 정리
-        requestConnectionMap.remove(workerMessage.getRequestId());
+        requestConnectionMap.remove(workerMessage.getCorrelationId());
+    }
+    
+    /**
+     * 과부하로 처리하지 않고 폐기한 요청에 대한 거절 응답 전송
+     * 
+     * @param workerMessage 폐기된 메시지
+     */
+    public void rejectOverloaded(WorkerMessage workerMessage) {
+        ClientConnectionInfo connection = resolveConnection(workerMessage);
+        if (connection != null) {
+            sendErrorResponse(workerMessage.getSipsvcMessage(), connection, "Server overloaded");
+        }
+        journalRequest(workerMessage, TransactionJournal.Outcome.OVERLOADED);
+        requestConnectionMap.remove(workerMessage.getCorrelationId());
+    }
+    
+    /**
+     * 처리하지 못한 execute 요청을 거래 저널에 기록 (INSUPC 응답 없음)
+     */
+    private void journalRequest(WorkerMessage workerMessage, TransactionJournal.Outcome outcome) {
+        SipsvcMessage request = workerMessage.getSipsvcMessage();
+        if (workerMessage.getMessageType() != WorkerMessage.MessageType.SIPSVC_REQUEST || request == null
+                || !SipsvcMessage.Type.EXECUTE.equals(request.getType())) {
+            return;
+        }
+        transactionJournal.record(outcome, workerMessage.getCorrelationId(), workerMessage.getRequestId(), 
+                request.getPhoneNumber(), workerMessage.getReceivedTime(), null, 
+                SipsvcMessage.ResultCode.INTERNAL_ERROR);
     }
     
     /**
      * 인증 요청 처리
      */
-    private void handleAuthRequest(SipsvcMessage request, String connectionId) {
+    private void handleAuthRequest(SipsvcMessage request, ClientConnectionInfo connection) {
+        String connectionId = connection.getConnectionId();
         log.info("인증 요청 처리 - 연결 ID: {}, 클라이언트 IP: {}", connectionId, request.getClientIp());
         
         // 인증 검증
-        boolean isAuthenticated = connectionManagementService.authenticateClient(
+        SecurityConfig.AllowedClient allowedClient = connectionManagementService.authenticateConnection(
+                connectionId,
                 request.getClientIp(),
                 request.getMacAddress(),
                 request.getAuthKey()
         );
         
         SipsvcMessage response;
-        if (isAuthenticated) {
+        if (allowedClient != null) {
             response = sipsvcProtocolParser.createAuthResponse(request, true, "Authentication successful");
-            connectionManagementService.updateClientAuthentication(connectionId, true);
             log.info("클라이언트 인증 성공 - 연결 ID: {}", connectionId);
         } else {
             response = sipsvcProtocolParser.createAuthResponse(request, false, "Authentication failed");
             log.warn("클라이언트 인증 실패 - 연결 ID: {}, IP: {}", connectionId, request.getClientIp());
         }
         
-        connectionManagementService.sendToSipsvc(connectionId, response);
+        connectionManagementService.sendToSipsvc(connection, response);
     }
     
     /**
      * heartbeat 요청 처리
      */
-    private void handleHeartbeatRequest(SipsvcMessage request, String connectionId) {
-        log.debug("Heartbeat 요청 처리 - 연결 ID: {}", connectionId);
+    private void handleHeartbeatRequest(SipsvcMessage request, ClientConnectionInfo connection) {
+        log.debug("Heartbeat 요청 처리 - 연결 ID: {}", connection.getConnectionId());
         
-        connectionManagementService.updateClientHeartbeat(connectionId);
+        connectionManagementService.updateClientHeartbeat(connection);
         
         SipsvcMessage response = sipsvcProtocolParser.createHeartbeatResponse(request);
-        connectionManagementService.sendToSipsvc(connectionId, response);
+        connectionManagementService.sendToSipsvc(connection, response);
     }
     
     /**
      * execute 요청 처리 (INSUPC로 질의)
      */
-    private void handleExecuteRequest(SipsvcMessage request, String connectionId, String requestId) {
-        log.info("Execute 요청 처리 - 연결 ID: {}, 요청 ID: {}, 전화번호: {}", 
+    private void handleExecuteRequest(SipsvcMessage request, ClientConnectionInfo connection, String requestId, 
+                                      long correlationId, long receivedTime, long deadline, boolean traced) {
+        String connectionId = connection.getConnectionId();
+        log.atLevel(transactionLogLevel()).log("Execute 요청 처리 - 연결 ID: {}, 요청 ID: {}, 전화번호: {}", 
                 connectionId, requestId, request.getPhoneNumber());
         
         // 연결이 인증되었는지 확인
-        if (!connectionManagementService.isClientAuthenticated(connectionId)) {
+        if (!connection.isAuthenticated()) {
             log.warn("인증되지 않은 클라이언트의 execute 요청 - 연결 ID: {}", connectionId);
-            sendErrorResponse(request, connectionId, "Not authenticated");
+            sendErrorResponse(request, connection, "Not authenticated");
+            transactionJournal.record(TransactionJournal.Outcome.FAILED, correlationId, requestId, 
+                    request.getPhoneNumber(), receivedTime, null, SipsvcMessage.ResultCode.INTERNAL_ERROR);
+            return;
+        }
+        
+        // 큐 대기 중 처리 기한이 지났으면 INSUPC로 질의하지 않음
+        if (deadlineService.checkExpired(deadline, DeadlineService.Stage.BEFORE_INSUPC_SEND, requestId)) {
+            transactionJournal.record(TransactionJournal.Outcome.EXPIRED, correlationId, requestId, 
+                    request.getPhoneNumber(), receivedTime, null, null);
+            return;
+        }
+        
+        // 추적 요청이면 INSUPC 질의 세션(상관 ID)도 추적 대상으로 연결 (응답 수신 또는 질의 실패 시 해제)
+        if (traced) {
+            hotPathLogPolicy.linkTrace(Long.toString(correlationId));
+        }
+        
+        if (pipelineConfig.isEventLoopMode()) {
+            handleExecuteRequestAsync(request, connection, requestId, correlationId, receivedTime, deadline);
             return;
         }
         
         // 요청-응답 매핑 저장
-        requestConnectionMap.put(requestId, connectionId);
+        requestConnectionMap.put(correlationId, 
+                new PendingRequest(connection, requestId, request, receivedTime, deadline));
         
         try {
-            // INSUPC 질의 메시지 생성 (C++ 구현과 동일)
-            java.util.List<String> inputValues = java.util.List.of(request.getPhoneNumber());
-            InsupcMessage queryRequest = insupcProtocolParser.createQueryRequest(
-                    "mcidPstnGetInfoV2",  // API 이름
-                    inputValues,          // 입력 파라미터
-                    1                     // INAS ID
-            );
+            InsupcMessage queryRequest = createQueryRequest(request, correlationId);
             
             // INSUPC로 질의 전송
-            connectionManagementService.sendToInsupc(queryRequest, requestId);
+            connectionManagementService.sendToInsupc(queryRequest, requestId, correlationId);
             
-            log.info("INSUPC 질의 전송 완료 - 요청 ID: {}, 전화번호: {}", 
+            log.atLevel(transactionLogLevel()).log("INSUPC 질의 전송 완료 - 요청 ID: {}, 전화번호: {}", 
                     requestId, request.getPhoneNumber());
-            
+                    
         } catch (Exception e) {
             log.error("INSUPC 질의 전송 실패 - 요청 ID: {}, 오류: {}", requestId, e.getMessage(), e);
             
             // 매핑 제거
-            requestConnectionMap.remove(requestId);
+            requestConnectionMap.remove(correlationId);
+            hotPathLogPolicy.unlinkTrace(Long.toString(correlationId));
             
             // 오류 응답 전송
-            sendErrorResponse(request, connectionId, "Failed to query INSUPC");
+            sendErrorResponse(request, connection, "Failed to query INSUPC");
+            transactionJournal.record(TransactionJournal.Outcome.SEND_FAILED, correlationId, requestId, 
+                    request.getPhoneNumber(), receivedTime, null, SipsvcMessage.ResultCode.INTERNAL_ERROR);
+        }
+    }
+    
+    /**
+     * execute 요청 비동기 처리 (EVENT_LOOP 파이프라인 모드)
+     * INSUPC 응답은 INSUPC 이벤트 루프에서 완료되며, 그 자리에서 sipsvc 응답으로 변환하여 전송
+     */
+    private void handleExecuteRequestAsync(SipsvcMessage request, ClientConnectionInfo connection, String requestId,
+                                           long correlationId, long receivedTime, long deadline) {
+        InsupcMessage queryRequest;
+        
+        try {
+            queryRequest = createQueryRequest(request, correlationId);
+        } catch (Exception e) {
+            log.error("INSUPC 질의 생성 실패 - 요청 ID: {}, 오류: {}", requestId, e.getMessage(), e);
+            sendErrorResponse(request, connection, "Failed to query INSUPC");
+            transactionJournal.record(TransactionJournal.Outcome.SEND_FAILED, correlationId, requestId, 
+                    request.getPhoneNumber(), receivedTime, null, SipsvcMessage.ResultCode.INTERNAL_ERROR);
+            return;
         }
+        
+        connectionManagementService.sendToInsupcAsync(queryRequest, requestId, correlationId)
+                .whenComplete((insupcMessage, error) -> {
+                    if (error != null) {
+                        log.error("INSUPC 비동기 질의 실패 - 요청 ID: {}, 오류: {}", requestId, error.getMessage());
+                        hotPathLogPolicy.unlinkTrace(Long.toString(correlationId));
+                        sendErrorResponse(request, connection, "Failed to query INSUPC");
+                        transactionJournal.record(TransactionJournal.Outcome.INSUPC_FAILED, correlationId, requestId, 
+                                request.getPhoneNumber(), receivedTime, null, SipsvcMessage.ResultCode.INTERNAL_ERROR);
+                        return;
+                    }
+                    
+                    try {
+                        deliverInsupcResponse(insupcMessage, connection, requestId, correlationId, 
+                                request.getPhoneNumber(), receivedTime, deadline);
+                    } catch (Exception e) {
+                        log.error("INSUPC 응답 처리 중 오류 - 요청 ID: {}, 오류: {}", 
+                                requestId, e.getMessage(), e);
+                    }
+                });
+        
+        log.atLevel(transactionLogLevel()).log("INSUPC 비동기 질의 전송 - 요청 ID: {}, 전화번호: {}", 
+                requestId, request.getPhoneNumber());
+    }
+    
+    /**
+     * INSUPC 질의 메시지 생성 (C++ 구현과 동일)
+     * 상관 ID를 세션 ID로 사용하여 INSUPC 응답을 요청과 매칭
+     */
+    private InsupcMessage createQueryRequest(SipsvcMessage request, long correlationId) {
+        java.util.List<String> inputValues = java.util.List.of(request.getPhoneNumber());
+        return insupcProtocolParser.createQueryRequest(
+                "mcidPstnGetInfoV2",            // API 이름
+                inputValues,                    // 입력 파라미터
+                1,                              // INAS ID
+                Long.toString(correlationId)    // 세션 ID
+        );
     }
     
     /**
@@ -266,7 +435,7 @@ public class MessageProcessingService {
     /**
      * 오류 응답 전송
      */
-    private void sendErrorResponse(SipsvcMessage request, String connectionId, String errorMessage) {
+    private void sendErrorResponse(SipsvcMessage request, ClientConnectionInfo connection, String errorMessage) {
         SipsvcMessage errorResponse = sipsvcProtocolParser.createExecuteResponse(
                 request,
                 null,
@@ -274,6 +443,57 @@ public class MessageProcessingService {
                 errorMessage
         );
         
-        connectionManagementService.sendToSipsvc(connectionId, errorResponse);
+        connectionManagementService.sendToSipsvc(connection, errorResponse);
+    }
+    
+    /**
+     * INSUPC 응답을 기다리는 요청 수
+     * 
+     * @return 대기 요청 수
+     */
+    public int getPendingRequestCount() {
+        return requestConnectionMap.size();
+    }
+    
+    /**
+     * INSUPC 응답을 기다리는 요청 중 가장 오래된 요청의 수신 후 경과 시간
+     * 대기 맵을 잠금 없이 순회하므로 처리 경로에 영향을 주지 않음
+     * 
+     * @return 경과 시간 (밀리초, 대기 요청이 없으면 0)
+     */
+    public long getOldestPendingRequestAgeMillis() {
+        long oldest = Long.MAX_VALUE;
+        for (PendingRequest pendingRequest : requestConnectionMap.values()) {
+            oldest = Math.min(oldest, pendingRequest.receivedTime);
+        }
+        return oldest == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldest);
+    }
+    
+    /**
+     * 거래별 처리 로그 레벨
+     * 저널이 거래를 기록하면 DEBUG, 저널이 꺼져 있으면 거래 추적 수단이 로그뿐이므로 INFO
+     */
+    private Level transactionLogLevel() {
+        return transactionJournal.isEnabled() ? Level.DEBUG : Level.INFO;
+    }
+    
+    /**
+     * INSUPC 응답을 기다리는 요청 정보
+     */
+    private static class PendingRequest {
+        private final ClientConnectionInfo connection;
+        private final String requestId;
+        private final SipsvcMessage request;
+        private final long receivedTime;
+        private final long deadline;
+        
+        private PendingRequest(ClientConnectionInfo connection, String requestId, SipsvcMessage request, 
+                               long receivedTime, long deadline) {
+            this.connection = connection;
+            this.requestId = requestId;
+            this.request = request;
+            this.receivedTime = receivedTime;
+            this.deadline = deadline;
+        }
     }
 }
@@ -0,0 +1,118 @@
+package com.in.amas.insupclient.service;
+
+import com.in.amas.insupclient.config.CaptureConfig;
+import com.in.amas.insupclient.tcp.WireCaptureHandler;
+import com.in.amas.insupclient.tcp.WireCaptureRing;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 프로세스 내 패킷 캡처 서비스
+ * 
+ * 캡처가 켜져 있으면 INSUPC/sipsvc 채널 파이프라인에 캡처 핸들러를 넣어 소켓 바이트를
+ * 공유 캡처 링(다이렉트 메모리)에 보관하고, 요청 시 링 내용을 pcap 파일로 저장함
+ * 외부 tcpdump 없이 장애 직전의 INSUPC 통신을 Wireshark로 바로 확인하기 위함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class WireCaptureService {
+    
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    
+    private final CaptureConfig captureConfig;
+    private final WireCaptureRing ring;
+    
+    public WireCaptureService(CaptureConfig captureConfig) {
+        this.captureConfig = captureConfig;
+        this.ring = captureConfig.isEnabled()
+                ? new WireCaptureRing(captureConfig.getRingSizeBytes(), captureConfig.getSnapLength())
+                : null;
+        
+        if (ring != null) {
+            log.info("패킷 캡처 사용 - 링 크기: {} bytes, snap 길이: {}, INSUPC: {}, sipsvc: {}",
+                    ring.getCapacity(), ring.getSnapLength(), captureConfig.isInsupc(), captureConfig.isSipsvc());
+        }
+    }
+    
+    /**
+     * INSUPC 채널용 캡처 핸들러 생성
+     * 
+     * @return 캡처 핸들러 (캡처를 사용하지 않으면 null)
+     */
+    public WireCaptureHandler newInsupcHandler() {
+        return ring != null && captureConfig.isInsupc() ? new WireCaptureHandler(ring) : null;
+    }
+    
+    /**
+     * sipsvc 채널용 캡처 핸들러 생성
+     * 
+     * @return 캡처 핸들러 (캡처를 사용하지 않으면 null)
+     */
+    public WireCaptureHandler newSipsvcHandler() {
+        return ring != null && captureConfig.isSipsvc() ? new WireCaptureHandler(ring) : null;
+    }
+    
+    /**
+     * 캡처 사용 여부
+     */
+    public boolean isEnabled() {
+        return ring != null;
+    }
+    
+    /**
+     * 캡처 상태 조회
+     * 
+     * @return 캡처 상태 정보
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", isEnabled());
+        if (ring != null) {
+            status.put("ring_size_bytes", ring.getCapacity());
+            status.put("snap_length", ring.getSnapLength());
+            status.put("records", ring.getRecordCount());
+            status.put("captured", ring.getCapturedCount());
+            status.put("overwritten", ring.getOverwrittenCount());
+        }
+        return status;
+    }
+    
+    /**
+     * 캡처 링 내용을 pcap 파일로 저장
+     * 
+     * @return 저장한 파일 경로
+     * @throws IOException 파일 저장 실패
+     * @throws IllegalStateException 캡처를 사용하지 않는 경우
+     */
+    public Path dump() throws IOException {
+        if (ring == null) {
+            throw new IllegalStateException("패킷 캡처가 비활성화되어 있습니다");
+        }
+        
+        Path directory = Paths.get(captureConfig.getDumpDirectory());
+        Files.createDirectories(directory);
+        Path file = directory.resolve("capture-" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".pcap");
+        
+        int packets;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            packets = ring.writePcap(out);
+        }
+        
+        log.info("패킷 캡처 저장 완료 - 파일: {}, 패킷 수: {}", file.toAbsolutePath(), packets);
+        return file;
+    }
+}
@@ -0,0 +1,155 @@
+package com.in.amas.insupclient.simulator;
+
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.service.MessageProcessingService;
+import com.in.amas.insupclient.worker.VirtualThreadDispatcher;
+import com.in.amas.insupclient.worker.WorkerQueue;
+import com.in.amas.insupclient.worker.WorkerTask;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 워커 실행 모드 벤치마크 (QUEUED vs VIRTUAL_THREAD)
+ * 
+ * INSUPC 전송 구간의 블로킹을 sleep으로 흉내 낸 MessageProcessingService를 사용하여
+ * 동일한 메시지 수를 처리하는 데 걸리는 시간과 처리량을 비교
+ * 
+ * 사용법: java -cp insupclient.jar com.in.amas.insupclient.simulator.ExecutionModeBenchmark
+ *          [메시지 수] [블로킹 시간(ms)] [워커 스레드 수] [가상 스레드 동시 처리 한도]
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public class ExecutionModeBenchmark {
+    
+    public static void main(String[] args) throws Exception {
+        int messageCount = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        long blockingMillis = args.length > 1 ? Long.parseLong(args[1]) : 5;
+        int threadPoolSize = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int maxConcurrency = args.length > 3 ? Integer.parseInt(args[3]) : 10000;
+        
+        System.out.println("=".repeat(60));
+        System.out.printf("메시지 수: %d, 블로킹 시간: %dms, 워커 스레드: %d, 가상 스레드 한도: %d%n",
+                messageCount, blockingMillis, threadPoolSize, maxConcurrency);
+        System.out.println("=".repeat(60));
+        
+        // JIT 워밍업
+        runQueued(messageCount / 10, blockingMillis, threadPoolSize);
+        runVirtualThread(messageCount / 10, blockingMillis, maxConcurrency);
+        
+        long queuedNanos = runQueued(messageCount, blockingMillis, threadPoolSize);
+        long virtualNanos = runVirtualThread(messageCount, blockingMillis, maxConcurrency);
+        
+        printResult("QUEUED", messageCount, queuedNanos);
+        printResult("VIRTUAL_THREAD", messageCount, virtualNanos);
+    }
+    
+    /**
+     * 기존 WorkerQueue + 플랫폼 스레드 방식으로 처리
+     */
+    private static long runQueued(int messageCount, long blockingMillis, int threadPoolSize) throws Exception {
+        CountDownLatch latch = new CountDownLatch(messageCount);
+        MessageProcessingService service = new BlockingProcessingService(blockingMillis, latch);
+        
+        List<WorkerQueue> queues = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threadPoolSize);
+        for (int i = 0; i < threadPoolSize; i++) {
+            WorkerQueue queue = new WorkerQueue(i, messageCount);
+            WorkerTask task = new WorkerTask(queue);
+            task.setMessageProcessingService(service);
+            queues.add(queue);
+            executor.submit(task);
+        }
+        
+        long start = System.nanoTime();
+        for (int i = 0; i < messageCount; i++) {
+            queues.get(i % threadPoolSize).offer(createMessage(i));
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        
+        queues.forEach(WorkerQueue::shutdown);
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+        return elapsed;
+    }
+    
+    /**
+     * 가상 스레드 디스패처 방식으로 처리
+     */
+    private static long runVirtualThread(int messageCount, long blockingMillis, int maxConcurrency) throws Exception {
+        CountDownLatch latch = new CountDownLatch(messageCount);
+        MessageProcessingService service = new BlockingProcessingService(blockingMillis, latch);
+        
+        VirtualThreadDispatcher dispatcher = new VirtualThreadDispatcher(
+                service, maxConcurrency, "bench-", Duration.ofMillis(20));
+        dispatcher.start();
+        
+        AtomicInteger rejected = new AtomicInteger(0);
+        long start = System.nanoTime();
+        for (int i = 0; i < messageCount; i++) {
+            WorkerMessage message = createMessage(i);
+            // 한도 초과 시 실제 서버는 즉시 거절하지만, 벤치마크에서는 재시도하여 전체 처리 시간을 측정
+            while (!dispatcher.dispatch(message)) {
+                rejected.incrementAndGet();
+                Thread.onSpinWait();
+            }
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        
+        dispatcher.shutdown();
+        if (rejected.get() > 0) {
+            System.out.printf("VIRTUAL_THREAD 동시 처리 한도 초과로 재시도한 횟수: %d%n", rejected.get());
+        }
+        return elapsed;
+    }
+    
+    private static WorkerMessage createMessage(int index) {
+        SipsvcMessage sipsvcMessage = SipsvcMessage.builder()
+                .type(SipsvcMessage.Type.EXECUTE)
+                .requestId("bench_" + index)
+                .phoneNumber("025671033")
+                .build();
+        return WorkerMessage.createSipsvcRequest("bench_connection", "bench_" + index, sipsvcMessage);
+    }
+    
+    private static void printResult(String mode, int messageCount, long elapsedNanos) {
+        double elapsedMillis = elapsedNanos / 1_000_000.0;
+        double throughput = messageCount / (elapsedNanos / 1_000_000_000.0);
+        System.out.printf("%-15s 처리 시간: %10.1fms, 처리량: %12.1f msg/s%n", mode, elapsedMillis, throughput);
+    }
+    
+    /**
+     * INSUPC 전송 블로킹을 흉내 내는 MessageProcessingService
+     */
+    private static class BlockingProcessingService extends MessageProcessingService {
+        
+        private final long blockingMillis;
+        private final CountDownLatch latch;
+        
+        BlockingProcessingService(long blockingMillis, CountDownLatch latch) {
+            super(null, null, null, null, null, null, null);
+            this.blockingMillis = blockingMillis;
+            this.latch = latch;
+        }
+        
+        @Override
+        public void processSipsvcRequest(WorkerMessage workerMessage) {
+            try {
+                Thread.sleep(blockingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            latch.countDown();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.in.amas.insupclient.simulator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.in.amas.insupclient.config.LogPolicyConfig;
 import com.in.amas.insupclient.dto.SipsvcMessage;
 import com.in.amas.insupclient.dto.InsupcMessage;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
 import com.in.amas.insupclient.protocol.InsupcProtocolParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -35,7 +37,8 @@ public class TestSimulator {
     private static final int INSUPC_PORT = 19000;  // Gateway → INSUPC (시뮬레이터)
     
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final InsupcProtocolParser insupcProtocolParser = new InsupcProtocolParser();
+    private final InsupcProtocolParser insupcProtocolParser = 
+            new InsupcProtocolParser(new HotPathLogPolicy(new LogPolicyConfig()));
     
     private ServerSocket insupcServerSocket;
     private volatile boolean running = true;
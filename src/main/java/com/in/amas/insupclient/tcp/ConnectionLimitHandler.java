@@ -0,0 +1,133 @@
+package com.in.amas.insupclient.tcp;
+
+import com.in.amas.insupclient.util.TokenBucket;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * accept 단계 연결 제한 핸들러
+ * 
+ * 서버 채널 파이프라인(ServerBootstrap.handler)에 두어 accept된 소켓이 워커 이벤트 루프에 등록되기 전에 검사함
+ * 거절된 소켓은 ClientConnectionInfo나 파이프라인이 만들어지기 전에 바로 닫히므로
+ * sipsvc 재연결 폭주가 있어도 메모리와 파일 디스크립터가 일정 수준 이상 소모되지 않음
+ * 
+ * 검사 순서: accept 속도(토큰 버킷) → 전체 연결 수 → IP별 연결 수
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+@ChannelHandler.Sharable
+public class ConnectionLimitHandler extends ChannelInboundHandlerAdapter {
+    
+    /**
+     * 연결 거절 사유
+     */
+    public enum RejectReason {
+        ACCEPT_RATE, MAX_CONNECTIONS, PER_IP_LIMIT
+    }
+    
+    private final int maxConnections;
+    private final int maxConnectionsPerIp;
+    private final TokenBucket acceptRateLimiter;
+    
+    private final AtomicInteger activeConnections = new AtomicInteger(0);
+    private final Map<String, Integer> connectionsPerIp = new ConcurrentHashMap<>();
+    private final LongAdder[] rejectedCounts = new LongAdder[RejectReason.values().length];
+    
+    /**
+     * @param maxConnections 전체 최대 연결 수 (0 이하이면 제한 없음)
+     * @param maxConnectionsPerIp IP별 최대 연결 수 (0 이하이면 제한 없음)
+     * @param acceptRate 초당 최대 accept 수 (0 이하이면 제한 없음)
+     * @param acceptBurst 연속 허용 accept 수
+     */
+    public ConnectionLimitHandler(int maxConnections, int maxConnectionsPerIp, double acceptRate, int acceptBurst) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerIp = maxConnectionsPerIp;
+        this.acceptRateLimiter = acceptRate > 0 ? new TokenBucket(acceptRate, acceptBurst) : null;
+        
+        for (int i = 0; i < rejectedCounts.length; i++) {
+            rejectedCounts[i] = new LongAdder();
+        }
+    }
+    
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        Channel child = (Channel) msg;
+        InetSocketAddress remoteAddress = (InetSocketAddress) child.remoteAddress();
+        String ip = remoteAddress != null ? remoteAddress.getAddress().getHostAddress() : "unknown";
+        
+        RejectReason reason = admit(ip);
+        if (reason != null) {
+            rejectedCounts[reason.ordinal()].increment();
+            log.debug("sipsvc 연결 거절 - IP: {}, 사유: {}, 현재 연결 수: {}", ip, reason, activeConnections.get());
+            
+            // 아직 이벤트 루프에 등록되지 않은 소켓이므로 즉시 닫음
+            child.unsafe().closeForcibly();
+            return;
+        }
+        
+        child.closeFuture().addListener(future -> release(ip));
+        super.channelRead(ctx, msg);
+    }
+    
+    /**
+     * 연결 허용 여부 판단 - 허용 시 연결 수를 증가시킨 상태로 반환
+     * 
+     * @return 거절 사유 (허용 시 null)
+     */
+    private RejectReason admit(String ip) {
+        if (acceptRateLimiter != null && !acceptRateLimiter.tryAcquire()) {
+            return RejectReason.ACCEPT_RATE;
+        }
+        
+        int active = activeConnections.incrementAndGet();
+        if (maxConnections > 0 && active > maxConnections) {
+            activeConnections.decrementAndGet();
+            return RejectReason.MAX_CONNECTIONS;
+        }
+        
+        int ipCount = connectionsPerIp.merge(ip, 1, Integer::sum);
+        if (maxConnectionsPerIp > 0 && ipCount > maxConnectionsPerIp) {
+            release(ip);
+            return RejectReason.PER_IP_LIMIT;
+        }
+        
+        return null;
+    }
+    
+    /**
+     * 연결 종료 시 연결 수 감소
+     */
+    private void release(String ip) {
+        activeConnections.decrementAndGet();
+        
+        connectionsPerIp.computeIfPresent(ip, (key, count) -> count <= 1 ? null : count - 1);
+    }
+    
+    /**
+     * 현재 연결 수
+     */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+    
+    /**
+     * 사유별 거절 건수
+     * 
+     * @param reason 거절 사유
+     * @return 거절 건수
+     */
+    public long getRejectedCount(RejectReason reason) {
+        return rejectedCounts[reason.ordinal()].sum();
+    }
+}
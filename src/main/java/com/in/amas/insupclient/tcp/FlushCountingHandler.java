@@ -0,0 +1,52 @@
+package com.in.amas.insupclient.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 소켓으로 나가는 flush 횟수와 전송 바이트 수를 세는 핸들러
+ * 파이프라인 맨 앞(head 쪽)에 두어 FlushConsolidationHandler를 거쳐 실제로 소켓에 도달한 flush만 집계함
+ * 여러 채널이 공유하며, 처리 메시지 수 대비 flush 수로 flush 통합 효과를 확인할 수 있음
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@ChannelHandler.Sharable
+public class FlushCountingHandler extends ChannelOutboundHandlerAdapter {
+    
+    private final LongAdder writtenBytes = new LongAdder();
+    private final LongAdder flushCount = new LongAdder();
+    
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf) {
+            writtenBytes.add(((ByteBuf) msg).readableBytes());
+        }
+        super.write(ctx, msg, promise);
+    }
+    
+    @Override
+    public void flush(ChannelHandlerContext ctx) throws Exception {
+        flushCount.increment();
+        super.flush(ctx);
+    }
+    
+    /**
+     * 소켓으로 전달된 바이트 수 (길이 필드 포함)
+     */
+    public long getWrittenBytes() {
+        return writtenBytes.sum();
+    }
+    
+    /**
+     * 소켓으로 전달된 flush 수
+     */
+    public long getFlushCount() {
+        return flushCount.sum();
+    }
+}
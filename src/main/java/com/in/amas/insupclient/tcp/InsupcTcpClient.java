@@ -3,8 +3,16 @@ package com.in.amas.insupclient.tcp;
 import com.in.amas.insupclient.config.InsupcConfig;
 import com.in.amas.insupclient.dto.InsupcMessage;
 import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.jfr.InsupcResponseEvent;
+import com.in.amas.insupclient.jfr.InsupcSendEvent;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import com.in.amas.insupclient.metrics.InsupcOperation;
+import com.in.amas.insupclient.metrics.InsupcResultMetrics;
+import com.in.amas.insupclient.metrics.RequestStageMetrics;
 import com.in.amas.insupclient.protocol.InsupcProtocolParser;
+import com.in.amas.insupclient.service.WireCaptureService;
 import com.in.amas.insupclient.worker.WorkerThreadPool;
+import io.micrometer.core.instrument.Timer;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.*;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -12,6 +20,7 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,10 +28,16 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * INSUPC와의 TCP 통신을 담당하는 Netty 기반 TCP 클라이언트
@@ -39,13 +54,26 @@ public class InsupcTcpClient {
     private final InsupcConfig insupcConfig;
     private final InsupcProtocolParser insupcProtocolParser;
     private final WorkerThreadPool workerThreadPool;
+    private final RequestStageMetrics requestStageMetrics;
+    private final InsupcResultMetrics insupcResultMetrics;
+    private final WireCaptureService wireCaptureService;
+    private final HotPathLogPolicy hotPathLogPolicy;
     
     private EventLoopGroup workerGroup;
     private final Map<String, InsupcConnectionPool> connectionPools = new ConcurrentHashMap<>();
-    private final Map<String, String> requestToConnectionMap = new ConcurrentHashMap<>();
+    
+    // 응답 대기 질의 상태 조회 시 최대 질의 수 (외부 요청 값으로 큰 힙을 만들지 않도록 제한)
+    public static final int MAX_IN_FLIGHT_LIMIT = 1000;
+    
+    // 응답 대기 중인 질의 (상관 ID -> 대기 정보, INSUPC 세션 ID는 상관 ID의 10진 문자열)
+    private final Map<Long, PendingQuery> pendingQueries = new ConcurrentHashMap<>();
     
     private ScheduledExecutorService reconnectScheduler;
     
+    // 소켓 flush 집계 (모든 INSUPC 연결 공유)
+    private final FlushCountingHandler flushCountingHandler = new FlushCountingHandler();
+    private final LongAdder sentMessageCount = new LongAdder();
+    
     /**
      * INSUPC 클라이언트 시작
      */
@@ -78,9 +106,10 @@ public class InsupcTcpClient {
      * 
      * @param message 전송할 메시지
      * @param requestId 요청 ID
+     * @param correlationId 상관 ID (응답 WorkerMessage에 전달)
      * @return 전송 성공 여부
      */
-    public boolean sendMessage(InsupcMessage message, String requestId) {
+    public boolean sendMessage(InsupcMessage message, String requestId, long correlationId) {
         // Round-Robin 방식으로 연결 풀 선택
         InsupcConnectionPool selectedPool = selectConnectionPool();
         
@@ -89,7 +118,29 @@ public class InsupcTcpClient {
             return false;
         }
         
-        return selectedPool.sendMessage(message, requestId);
+        return selectedPool.sendMessage(message, requestId, correlationId);
+    }
+    
+    /**
+     * INSUPC로 메시지를 비동기 전송
+     * 연결 획득을 기다리지 않으며, 응답은 INSUPC 이벤트 루프에서 future로 완료됨
+     * 
+     * @param message 전송할 메시지
+     * @param requestId 요청 ID
+     * @param correlationId 상관 ID (응답 매칭 키)
+     * @return INSUPC 응답 future (연결 없음, 전송 실패, 읽기 타임아웃 시 예외로 완료)
+     */
+    public CompletableFuture<InsupcMessage> sendMessageAsync(InsupcMessage message, String requestId, 
+                                                             long correlationId) {
+        InsupcConnectionPool selectedPool = selectConnectionPool();
+        
+        if (selectedPool == null) {
+            log.error("사용 가능한 INSUPC 연결 풀이 없음 - 요청 ID: {}", requestId);
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("No available INSUPC connection pool"));
+        }
+        
+        return selectedPool.sendMessageAsync(message, requestId, correlationId);
     }
     
     /**
@@ -116,6 +167,97 @@ public class InsupcTcpClient {
         log.info("INSUPC TCP 클라이언트 종료 완료");
     }
     
+    /**
+     * INSUPC 채널 이벤트 루프 그룹 조회 (시작 전이면 null)
+     * 
+     * @return 이벤트 루프 그룹
+     */
+    public EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+    
+    /**
+     * 소켓 flush 집계 핸들러 조회
+     * 
+     * @return flush 집계 핸들러
+     */
+    public FlushCountingHandler getFlushCountingHandler() {
+        return flushCountingHandler;
+    }
+    
+    /**
+     * INSUPC로 전송한 메시지 수 조회
+     * 
+     * @return 전송 메시지 수
+     */
+    public long getSentMessageCount() {
+        return sentMessageCount.sum();
+    }
+    
+    /**
+     * 연결 풀별 채널 상태 조회
+     * 각 풀의 큐/맵 크기와 응답 대기 맵을 잠금 없이 읽으므로 값 사이에 순간적인 불일치가 있을 수 있음
+     * 
+     * @return 풀별 상태
+     */
+    public List<PoolStatus> getPoolStatuses() {
+        Map<InsupcConnectionPool, Integer> inFlightByPool = new HashMap<>();
+        for (PendingQuery pendingQuery : pendingQueries.values()) {
+            inFlightByPool.merge(pendingQuery.pool, 1, Integer::sum);
+        }
+        
+        List<PoolStatus> statuses = new ArrayList<>(connectionPools.size());
+        for (InsupcConnectionPool pool : connectionPools.values()) {
+            statuses.add(new PoolStatus(
+                    pool.config.getName(),
+                    pool.availableConnections.size(),
+                    pool.requestChannelMap.size(),
+                    inFlightByPool.getOrDefault(pool, 0)));
+        }
+        return statuses;
+    }
+    
+    /**
+     * 응답 대기 중인 질의 상태 조회 (전송 후 경과 시간이 긴 순서로 최대 limit개)
+     * 
+     * @param requestedLimit 조회할 최대 질의 수 (MAX_IN_FLIGHT_LIMIT로 제한)
+     * @return 응답 대기 질의 상태
+     */
+    public InFlightStatus getInFlightStatus(int requestedLimit) {
+        int limit = Math.min(requestedLimit, MAX_IN_FLIGHT_LIMIT);
+        long now = System.nanoTime();
+        int count = 0;
+        
+        // 가장 최근에 전송한 질의가 맨 앞에 오는 힙으로 오래된 질의 limit개만 유지
+        PriorityQueue<PendingQuery> slowest = new PriorityQueue<>(
+                Math.max(1, limit), Comparator.comparingLong((PendingQuery q) -> q.sentNanos).reversed());
+        
+        for (PendingQuery pendingQuery : pendingQueries.values()) {
+            count++;
+            if (limit <= 0) {
+                continue;
+            }
+            if (slowest.size() < limit) {
+                slowest.offer(pendingQuery);
+            } else if (pendingQuery.sentNanos < slowest.peek().sentNanos) {
+                slowest.poll();
+                slowest.offer(pendingQuery);
+            }
+        }
+        
+        List<InFlightQuery> queries = new ArrayList<>(slowest.size());
+        for (PendingQuery pendingQuery : slowest) {
+            queries.add(new InFlightQuery(
+                    pendingQuery.requestId,
+                    pendingQuery.correlationId,
+                    pendingQuery.pool.config.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(now - pendingQuery.sentNanos)));
+        }
+        queries.sort(Comparator.comparingLong((InFlightQuery q) -> q.ageMs).reversed());
+        
+        return new InFlightStatus(count, queries);
+    }
+    
     /**
      * Round-Robin 방식으로 연결 풀 선택
      */
@@ -145,9 +287,19 @@ public class InsupcTcpClient {
         private volatile boolean initialized = false;
         private volatile boolean shutdown = false;
         
+        // 서버별 지연 시간 타이머 (왕복 시간은 InsupcOperation 순서로 인덱싱)
+        private final Timer acquireTimer;
+        private final Timer[] roundTripTimers;
+        
+        // 서버별 응답 결과 코드 카운터
+        private final InsupcResultMetrics.ServerCounters resultCounters;
+        
         public InsupcConnectionPool(InsupcConfig.InsupcClient config) {
             this.config = config;
             this.availableConnections = new LinkedBlockingQueue<>();
+            this.acquireTimer = requestStageMetrics.insupcAcquireTimer(config.getName());
+            this.roundTripTimers = requestStageMetrics.insupcRoundTripTimers(config.getName());
+            this.resultCounters = insupcResultMetrics.forServer(config.getName());
         }
         
         /**
@@ -173,6 +325,7 @@ public class InsupcTcpClient {
                 Bootstrap bootstrap = new Bootstrap();
                 bootstrap.group(workerGroup)
                         .channel(NioSocketChannel.class)
+                        .option(ChannelOption.ALLOCATOR, InstrumentedByteBufAllocator.DEFAULT)
                         .option(ChannelOption.SO_KEEPALIVE, true)
                         .option(ChannelOption.TCP_NODELAY, true)
                         .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getConnectionTimeout())
@@ -181,6 +334,21 @@ public class InsupcTcpClient {
                             protected void initChannel(SocketChannel ch) throws Exception {
                                 ChannelPipeline pipeline = ch.pipeline();
                                 
+                                // 소켓 바이트 캡처 (캡처 사용 시, 파이프라인 맨 앞)
+                                WireCaptureHandler captureHandler = wireCaptureService.newInsupcHandler();
+                                if (captureHandler != null) {
+                                    pipeline.addLast("wireCapture", captureHandler);
+                                }
+                                
+                                // 소켓에 도달한 flush 집계 (flush 통합 핸들러보다 소켓 쪽)
+                                pipeline.addLast("flushCounter", flushCountingHandler);
+                                
+                                // 워커 스레드의 질의 flush를 이벤트 루프 턴 단위로 통합
+                                if (insupcConfig.getFlushConsolidationLimit() > 0) {
+                                    pipeline.addLast("flushConsolidation", new FlushConsolidationHandler(
+                                            insupcConfig.getFlushConsolidationLimit(), true));
+                                }
+                                
                                 // 읽기 타임아웃
                                 pipeline.addLast("readTimeoutHandler", 
                                         new ReadTimeoutHandler(config.getReadTimeout(), TimeUnit.MILLISECONDS));
@@ -192,7 +360,7 @@ public class InsupcTcpClient {
                                         new LengthFieldPrepender(4));
                                 
                                 // 커스텀 핸들러
-                                pipeline.addLast("insupcHandler", new InsupcChannelHandler());
+                                pipeline.addLast("insupcHandler", new InsupcChannelHandler(config.getName(), resultCounters));
                             }
                         });
                 
@@ -200,7 +368,7 @@ public class InsupcTcpClient {
                 Channel channel = future.channel();
                 
                 // 연결 성공 시 로그온 요청 전송
-                InsupcMessage logonRequest = insupcProtocolParser.createLogonRequest(1);
+                InsupcMessage logonRequest = insupcProtocolParser.createDbAccessRequest(1);
                 sendLogonRequest(channel, logonRequest);
                 
                 // 사용 가능한 연결로 추가
@@ -228,7 +396,7 @@ public class InsupcTcpClient {
                 
                 log.debug("INSUPC 로그온 요청 전송 - {}, 세션: {}", 
                         config.getName(), logonRequest.getSessionId());
-                
+                        
             } catch (Exception e) {
                 log.error("INSUPC 로그온 요청 전송 실패 - {}, 오류: {}", 
                         config.getName(), e.getMessage(), e);
@@ -236,14 +404,21 @@ public class InsupcTcpClient {
         }
         
         /**
-         * 메시지 전송
+         * 메시지 전송 (연결 획득 시 최대 1초 블로킹)
+         * 응답은 WorkerThreadPool을 통해 처리됨
          */
-        public boolean sendMessage(InsupcMessage message, String requestId) {
+        public boolean sendMessage(InsupcMessage message, String requestId, long correlationId) {
             Channel channel = null;
             
             try {
-                // 사용 가능한 연결 획득
-                channel = availableConnections.poll(1, TimeUnit.SECONDS);
+                // 사용 가능한 연결 획득 - 대기해야 하면 배치에 쌓인 sipsvc 응답을 먼저 전송
+                long acquireStartNanos = System.nanoTime();
+                channel = availableConnections.poll();
+                if (channel == null) {
+                    WriteBatch.flushCurrent();
+                    channel = availableConnections.poll(1, TimeUnit.SECONDS);
+                }
+                acquireTimer.record(System.nanoTime() - acquireStartNanos, TimeUnit.NANOSECONDS);
                 
                 if (channel == null || !channel.isActive()) {
                     log.warn("사용 가능한 INSUPC 연결이 없음 - {}, 요청 ID: {}", 
@@ -251,16 +426,7 @@ public class InsupcTcpClient {
                     return false;
                 }
                 
-                // 요청-채널 매핑 저장
-                requestChannelMap.put(requestId, channel);
-                
-                // 메시지 전송
-                byte[] messageBytes = insupcProtocolParser.serializeMessage(message);
-                channel.writeAndFlush(io.netty.buffer.Unpooled.wrappedBuffer(messageBytes));
-                
-                log.info("INSUPC 메시지 전송 완료 - {}, 요청 ID: {}, 코드: {}", 
-                        config.getName(), requestId, message.getCode());
-                
+                writeQuery(channel, message, new PendingQuery(requestId, correlationId, this, channel, null));
                 return true;
                 
             } catch (Exception e) {
@@ -269,6 +435,7 @@ public class InsupcTcpClient {
                 
                 // 실패한 연결은 다시 풀에 반환하지 않음
                 if (channel != null) {
+                    pendingQueries.remove(correlationId);
                     channel.close();
                 }
                 
@@ -276,6 +443,100 @@ public class InsupcTcpClient {
             }
         }
         
+        /**
+         * 메시지 비동기 전송 (블로킹 없음)
+         * 유휴 연결이 없으면 즉시 실패하며, 응답은 INSUPC 이벤트 루프에서 future로 전달됨
+         */
+        public CompletableFuture<InsupcMessage> sendMessageAsync(InsupcMessage message, String requestId, 
+                                                                 long correlationId) {
+            long acquireStartNanos = System.nanoTime();
+            Channel channel = availableConnections.poll();
+            acquireTimer.record(System.nanoTime() - acquireStartNanos, TimeUnit.NANOSECONDS);
+            
+            if (channel == null || !channel.isActive()) {
+                log.warn("사용 가능한 INSUPC 연결이 없음 - {}, 요청 ID: {}", config.getName(), requestId);
+                return CompletableFuture.failedFuture(
+                        new IllegalStateException("No available INSUPC connection: " + config.getName()));
+            }
+            
+            CompletableFuture<InsupcMessage> future = new CompletableFuture<>();
+            PendingQuery pendingQuery = new PendingQuery(requestId, correlationId, this, channel, future);
+            
+            try {
+                // 읽기 타임아웃 - 응답이 오지 않은 연결은 상태를 알 수 없으므로 종료
+                // 응답 수신, 쓰기 실패, 연결 종료 시 취소하여 완료된 질의의 타이머가 이벤트 루프에 남지 않도록 함
+                // (응답보다 먼저 등록되도록 전송 전에 예약)
+                pendingQuery.timeoutFuture = channel.eventLoop().schedule(() -> {
+                    if (pendingQueries.remove(correlationId, pendingQuery)) {
+                        requestChannelMap.remove(requestId);
+                        hotPathLogPolicy.unlinkTrace(message.getSessionId());
+                        future.completeExceptionally(new TimeoutException(
+                                "INSUPC response timeout: " + config.getName()));
+                        channel.close();
+                    }
+                }, config.getReadTimeout(), TimeUnit.MILLISECONDS);
+                
+                writeQuery(channel, message, pendingQuery);
+                
+            } catch (Exception e) {
+                log.error("INSUPC 메시지 전송 실패 - {}, 요청 ID: {}, 오류: {}", 
+                        config.getName(), requestId, e.getMessage(), e);
+                
+                pendingQuery.cancelTimeout();
+                pendingQueries.remove(correlationId);
+                requestChannelMap.remove(requestId);
+                channel.close();
+                future.completeExceptionally(e);
+            }
+            
+            return future;
+        }
+        
+        /**
+         * 질의 전송 - 응답 매칭을 위해 상관 ID로 대기 정보를 먼저 등록한 후 전송
+         */
+        private void writeQuery(Channel channel, InsupcMessage message, PendingQuery pendingQuery) throws Exception {
+            requestChannelMap.put(pendingQuery.requestId, channel);
+            pendingQuery.roundTripTimer = roundTripTimers[InsupcOperation.fromMessageCode(message.getMsgCode()).ordinal()];
+            pendingQuery.sentNanos = System.nanoTime();
+            pendingQueries.put(pendingQuery.correlationId, pendingQuery);
+            
+            InsupcSendEvent event = new InsupcSendEvent();
+            event.begin();
+            byte[] messageBytes = insupcProtocolParser.serializeMessage(message);
+            sentMessageCount.increment();
+            channel.writeAndFlush(io.netty.buffer.Unpooled.wrappedBuffer(messageBytes))
+                    .addListener(writeFuture -> {
+                        if (!writeFuture.isSuccess() && pendingQueries.remove(pendingQuery.correlationId, pendingQuery)) {
+                            log.error("INSUPC 메시지 쓰기 실패 - {}, 요청 ID: {}", 
+                                    config.getName(), pendingQuery.requestId);
+                            pendingQuery.cancelTimeout();
+                            requestChannelMap.remove(pendingQuery.requestId);
+                            hotPathLogPolicy.unlinkTrace(message.getSessionId());
+                            if (pendingQuery.future != null) {
+                                pendingQuery.future.completeExceptionally(writeFuture.cause());
+                            }
+                            channel.close();
+                        }
+                    });
+            
+            if (event.shouldCommit()) {
+                event.requestId = pendingQuery.requestId;
+                event.correlationId = pendingQuery.correlationId;
+                event.sessionId = message.getSessionId();
+                event.pool = config.getName();
+                event.messageCode = message.getMsgCode();
+                event.messageBytes = messageBytes.length;
+                event.commit();
+            }
+            
+            if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(
+                    HotPathLogPolicy.Category.INSUPC_IO, message.getSessionId())) {
+                log.info("INSUPC 메시지 전송 완료 - {}, 요청 ID: {}, 코드: {}", 
+                        config.getName(), pendingQuery.requestId, message.getMsgCode());
+            }
+        }
+        
         /**
          * 응답 처리 후 연결 반환
          */
@@ -287,6 +548,38 @@ public class InsupcTcpClient {
             }
         }
         
+        /**
+         * 종료된 연결 정리 - 연결에서 응답을 기다리던 질의를 모두 실패 처리
+         * 비동기 전송은 future를 예외로 완료하고, 워커 모드는 실패 WorkerMessage를 보내 sipsvc에 오류 응답이 나가도록 함
+         */
+        private void connectionClosed(Channel channel) {
+            availableConnections.remove(channel);
+            
+            int failed = 0;
+            for (Map.Entry<Long, PendingQuery> entry : pendingQueries.entrySet()) {
+                PendingQuery pendingQuery = entry.getValue();
+                if (pendingQuery.channel != channel || !pendingQueries.remove(entry.getKey(), pendingQuery)) {
+                    continue;
+                }
+                
+                failed++;
+                pendingQuery.cancelTimeout();
+                hotPathLogPolicy.unlinkTrace(Long.toString(pendingQuery.correlationId));
+                if (pendingQuery.future != null) {
+                    pendingQuery.future.completeExceptionally(new ClosedChannelException());
+                } else {
+                    workerThreadPool.submitMessage(WorkerMessage.createInsupcFailure(
+                            pendingQuery.requestId, pendingQuery.correlationId));
+                }
+            }
+            requestChannelMap.values().removeIf(mapped -> mapped == channel);
+            
+            if (failed > 0) {
+                log.warn("INSUPC 연결 종료로 응답 대기 질의 실패 처리 - {}, 채널: {}, 질의 수: {}", 
+                        config.getName(), channel.id(), failed);
+            }
+        }
+        
         /**
          * 사용 가능한 연결이 있는지 확인
          */
@@ -335,9 +628,19 @@ public class InsupcTcpClient {
      */
     private class InsupcChannelHandler extends ChannelInboundHandlerAdapter {
         
+        private final String poolName;
+        private final InsupcResultMetrics.ServerCounters resultCounters;
+        
+        InsupcChannelHandler(String poolName, InsupcResultMetrics.ServerCounters resultCounters) {
+            this.poolName = poolName;
+            this.resultCounters = resultCounters;
+        }
+        
         @Override
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
             try {
+                InsupcResponseEvent event = new InsupcResponseEvent();
+                event.begin();
                 io.netty.buffer.ByteBuf byteBuf = (io.netty.buffer.ByteBuf) msg;
                 byte[] data = new byte[byteBuf.readableBytes()];
                 byteBuf.readBytes(data);
@@ -347,20 +650,55 @@ public class InsupcTcpClient {
                 
                 // 바이너리 메시지 파싱
                 InsupcMessage insupcMessage = insupcProtocolParser.parseMessage(data);
+                insupcMessage.setServerName(poolName);
+                
+                // 서버/operation별 결과 코드 집계 (로그온 응답 등 대기 요청이 없는 응답 포함)
+                resultCounters.record(insupcMessage);
                 
-                // 세션 ID를 기반으로 요청 ID 찾기
-                String requestId = findRequestIdBySessionId(insupcMessage.getSessionId());
+                // 세션 ID(상관 ID)를 기반으로 대기 중인 요청 찾기 - 숫자가 아닌 세션 ID는 매칭하지 않음
+                long correlationId = parseCorrelationId(insupcMessage.getSessionId());
+                PendingQuery pendingQuery = correlationId >= 0 ? pendingQueries.remove(correlationId) : null;
+                long roundTripNanos = pendingQuery != null ? System.nanoTime() - pendingQuery.sentNanos : 0;
+                event.end();
                 
-                if (requestId != null) {
-                    // WorkerMessage 생성 및 큐에 추가
-                    WorkerMessage workerMessage = WorkerMessage.createInsupcResponse(requestId, insupcMessage);
-                    workerThreadPool.submitMessage(workerMessage);
+                if (event.shouldCommit()) {
+                    event.requestId = pendingQuery != null ? pendingQuery.requestId : null;
+                    event.correlationId = pendingQuery != null ? pendingQuery.correlationId : 0;
+                    event.sessionId = insupcMessage.getSessionId();
+                    event.pool = poolName;
+                    event.messageCode = insupcMessage.getMsgCode();
+                    event.result = insupcMessage.getResult();
+                    event.messageBytes = data.length;
+                    event.roundTrip = roundTripNanos;
+                    event.commit();
+                }
+                
+                if (pendingQuery != null) {
+                    String requestId = pendingQuery.requestId;
+                    pendingQuery.cancelTimeout();
+                    pendingQuery.roundTripTimer.record(roundTripNanos, TimeUnit.NANOSECONDS);
+                    
+                    // 추적 요청에서 파생된 세션이면 추적 연결 해제 (워커 처리 로그까지 추적 유지)
+                    boolean traced = hotPathLogPolicy.unlinkTrace(insupcMessage.getSessionId());
                     
                     // 연결 반환
-                    returnConnectionByRequestId(requestId, ctx.channel());
+                    pendingQuery.pool.returnConnection(requestId, ctx.channel());
                     
-                    log.info("INSUPC 응답 처리 완료 - 요청 ID: {}, 코드: {}", 
-                            requestId, insupcMessage.getCode());
+                    if (pendingQuery.future != null) {
+                        // 비동기 전송 - 이벤트 루프에서 바로 후속 처리
+                        pendingQuery.future.complete(insupcMessage);
+                    } else {
+                        // WorkerMessage 생성 및 큐에 추가
+                        WorkerMessage workerMessage = WorkerMessage.createInsupcResponse(
+                                requestId, pendingQuery.correlationId, insupcMessage);
+                        workerMessage.setTraced(traced);
+                        workerThreadPool.submitMessage(workerMessage);
+                    }
+                    
+                    if (log.isInfoEnabled() && hotPathLogPolicy.shouldLog(HotPathLogPolicy.Category.INSUPC_IO, traced)) {
+                        log.info("INSUPC 응답 처리 완료 - 요청 ID: {}, 코드: {}", 
+                                requestId, insupcMessage.getMsgCode());
+                    }
                 } else {
                     log.warn("INSUPC 응답에 대응하는 요청을 찾을 수 없음 - 세션 ID: {}", 
                             insupcMessage.getSessionId());
@@ -377,6 +715,12 @@ public class InsupcTcpClient {
         @Override
         public void channelInactive(ChannelHandlerContext ctx) throws Exception {
             log.warn("INSUPC 연결 해제됨 - 채널: {}", ctx.channel().id());
+            
+            // 읽기 타임아웃 등으로 종료된 연결의 응답 대기 질의 정리
+            InsupcConnectionPool pool = connectionPools.get(poolName);
+            if (pool != null) {
+                pool.connectionClosed(ctx.channel());
+            }
             super.channelInactive(ctx);
         }
         
@@ -389,20 +733,105 @@ public class InsupcTcpClient {
     }
     
     /**
-     * 세션 ID로 요청 ID 찾기
+     * INSUPC 세션 ID를 상관 ID로 변환 (응답당 한 번, 예외 없이 자릿수만 확인)
+     * 
+     * @return 상관 ID (10진 숫자가 아니거나 long 범위를 넘으면 -1)
+     */
+    private static long parseCorrelationId(String sessionId) {
+        if (sessionId == null || sessionId.isEmpty() || sessionId.length() > 18) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < sessionId.length(); i++) {
+            char c = sessionId.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+    
+    /**
+     * 연결 풀 상태 DTO
+     */
+    public static class PoolStatus {
+        public final String name;
+        public final int readyChannels;
+        public final int busyChannels;
+        public final int inFlightQueries;
+        
+        private PoolStatus(String name, int readyChannels, int busyChannels, int inFlightQueries) {
+            this.name = name;
+            this.readyChannels = readyChannels;
+            this.busyChannels = busyChannels;
+            this.inFlightQueries = inFlightQueries;
+        }
+    }
+    
+    /**
+     * 응답 대기 질의 상태 DTO
      */
-    private String findRequestIdBySessionId(String sessionId) {
-        return requestToConnectionMap.entrySet().stream()
-                .filter(entry -> entry.getValue().equals(sessionId))
-                .map(Map.Entry::getKey)
-                .findFirst()
-                .orElse(null);
+    public static class InFlightStatus {
+        public final int count;
+        public final List<InFlightQuery> slowest;
+        
+        private InFlightStatus(int count, List<InFlightQuery> slowest) {
+            this.count = count;
+            this.slowest = slowest;
+        }
+    }
+    
+    /**
+     * 응답 대기 질의 DTO
+     */
+    public static class InFlightQuery {
+        public final String requestId;
+        public final long correlationId;
+        public final String pool;
+        public final long ageMs;
+        
+        private InFlightQuery(String requestId, long correlationId, String pool, long ageMs) {
+            this.requestId = requestId;
+            this.correlationId = correlationId;
+            this.pool = pool;
+            this.ageMs = ageMs;
+        }
     }
     
     /**
-     * 요청 ID로 연결 반환
+     * 응답 대기 중인 INSUPC 질의 정보
      */
-    private void returnConnectionByRequestId(String requestId, Channel channel) {
-        connectionPools.values().forEach(pool -> pool.returnConnection(requestId, channel));
+    private static class PendingQuery {
+        private final String requestId;
+        private final long correlationId;
+        private final InsupcConnectionPool pool;
+        private final Channel channel;
+        
+        // 비동기 전송인 경우에만 존재 (null이면 WorkerThreadPool로 응답 전달)
+        private final CompletableFuture<InsupcMessage> future;
+        
+        // 왕복 시간 측정 (전송 직전 설정, 응답 수신 스레드에서는 맵을 통해 안전하게 읽음)
+        private Timer roundTripTimer;
+        private long sentNanos;
+        
+        // 비동기 전송의 응답 타임아웃 타이머 (응답 수신 또는 실패 시 취소)
+        private volatile ScheduledFuture<?> timeoutFuture;
+        
+        PendingQuery(String requestId, long correlationId, InsupcConnectionPool pool, Channel channel, 
+                     CompletableFuture<InsupcMessage> future) {
+            this.requestId = requestId;
+            this.correlationId = correlationId;
+            this.pool = pool;
+            this.channel = channel;
+            this.future = future;
+        }
+        
+        void cancelTimeout() {
+            ScheduledFuture<?> timeout = timeoutFuture;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
     }
 }
@@ -1,10 +1,21 @@
 package com.in.amas.insupclient.tcp;
 
+import com.in.amas.insupclient.config.PipelineConfig;
 import com.in.amas.insupclient.config.TcpServerConfig;
+import com.in.amas.insupclient.dto.ClientConnectionInfo;
 import com.in.amas.insupclient.dto.SipsvcMessage;
 import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.jfr.SipsvcFrameReceivedEvent;
+import com.in.amas.insupclient.jfr.SipsvcResponseWrittenEvent;
+import com.in.amas.insupclient.journal.TransactionJournal;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import com.in.amas.insupclient.metrics.RequestStageMetrics;
+import com.in.amas.insupclient.protocol.HeartbeatFastPath;
 import com.in.amas.insupclient.protocol.SipsvcProtocolParser;
 import com.in.amas.insupclient.service.ConnectionManagementService;
+import com.in.amas.insupclient.service.DeadlineService;
+import com.in.amas.insupclient.service.MessageProcessingService;
+import com.in.amas.insupclient.service.WireCaptureService;
 import com.in.amas.insupclient.worker.WorkerThreadPool;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.*;
@@ -13,7 +24,8 @@ import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
 import io.netty.handler.codec.LengthFieldPrepender;
-import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.flush.FlushConsolidationHandler;
+import io.netty.util.AttributeKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -23,7 +35,8 @@ import jakarta.annotation.PreDestroy;
 import java.net.InetSocketAddress;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * sipsvc와의 TCP 통신을 담당하는 Netty 기반 TCP 서버
@@ -37,18 +50,43 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class SipsvcTcpServer {
     
+    /**
+     * 채널에 연결된 연결 컨텍스트
+     */
+    public static final AttributeKey<ClientConnectionInfo> CONNECTION_INFO = AttributeKey.valueOf("sipsvcConnection");
+    
     private final TcpServerConfig tcpServerConfig;
     private final SipsvcProtocolParser sipsvcProtocolParser;
     private final ConnectionManagementService connectionManagementService;
     private final WorkerThreadPool workerThreadPool;
+    private final PipelineConfig pipelineConfig;
+    private final MessageProcessingService messageProcessingService;
+    private final DeadlineService deadlineService;
+    private final HeartbeatFastPath heartbeatFastPath;
+    private final RequestStageMetrics requestStageMetrics;
+    private final WireCaptureService wireCaptureService;
+    private final HotPathLogPolicy hotPathLogPolicy;
+    private final TransactionJournal transactionJournal;
     
     private EventLoopGroup bossGroup;
     private EventLoopGroup workerGroup;
     private Channel serverChannel;
     
-    // 연결된 클라이언트 채널 관리
+    // 연결된 클라이언트 채널 관리 (연결 ID로 종료할 때 사용 - 메시지 처리 경로는 연결 컨텍스트를 직접 사용)
     private final Map<String, Channel> clientChannels = new ConcurrentHashMap<>();
     
+    // 연결 ID 순번과 요청 상관 ID (재시작 후 INSUPC 세션 ID가 겹치지 않도록 시작 시각 기준)
+    private final AtomicLong connectionSequence = new AtomicLong(0);
+    private final AtomicLong correlationSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    
+    // 소켓 flush 집계 (모든 sipsvc 채널 공유)
+    private final FlushCountingHandler flushCountingHandler = new FlushCountingHandler();
+    private final LongAdder sentMessageCount = new LongAdder();
+    private final LongAdder fastHeartbeatCount = new LongAdder();
+    
+    // accept 단계 연결 제한 (서버 채널 파이프라인)
+    private ConnectionLimitHandler connectionLimitHandler;
+    
     /**
      * TCP 서버 시작
      */
@@ -59,12 +97,21 @@ public class SipsvcTcpServer {
         bossGroup = new NioEventLoopGroup(tcpServerConfig.getBossThreads());
         workerGroup = new NioEventLoopGroup(tcpServerConfig.getWorkerThreads());
         
+        connectionLimitHandler = new ConnectionLimitHandler(
+                tcpServerConfig.getMaxConnections(),
+                tcpServerConfig.getMaxConnectionsPerIp(),
+                tcpServerConfig.getAcceptRate(),
+                tcpServerConfig.getAcceptBurst());
+        
         try {
             ServerBootstrap bootstrap = new ServerBootstrap();
             bootstrap.group(bossGroup, workerGroup)
                     .channel(NioServerSocketChannel.class)
                     .option(ChannelOption.SO_BACKLOG, tcpServerConfig.getSoBacklog())
                     .option(ChannelOption.SO_REUSEADDR, true)
+                    .option(ChannelOption.ALLOCATOR, InstrumentedByteBufAllocator.DEFAULT)
+                    .handler(connectionLimitHandler)
+                    .childOption(ChannelOption.ALLOCATOR, InstrumentedByteBufAllocator.DEFAULT)
                     .childOption(ChannelOption.SO_KEEPALIVE, tcpServerConfig.isSoKeepalive())
                     .childOption(ChannelOption.TCP_NODELAY, tcpServerConfig.isTcpNodelay())
                     .childOption(ChannelOption.SO_RCVBUF, 32 * 1024)
@@ -74,11 +121,20 @@ public class SipsvcTcpServer {
                         protected void initChannel(SocketChannel ch) throws Exception {
                             ChannelPipeline pipeline = ch.pipeline();
                             
-                            // 유휴 상태 핸들러 (2시간 타임아웃)
-                            pipeline.addLast("idleStateHandler", 
-                                    new IdleStateHandler(0, 0, 
-                                            tcpServerConfig.getConnectionTimeout() / 1000, 
-                                            TimeUnit.SECONDS));
+                            // 소켓 바이트 캡처 (캡처 사용 시, 파이프라인 맨 앞)
+                            WireCaptureHandler captureHandler = wireCaptureService.newSipsvcHandler();
+                            if (captureHandler != null) {
+                                pipeline.addLast("wireCapture", captureHandler);
+                            }
+                            
+                            // 소켓에 도달한 flush 집계 (flush 통합 핸들러보다 소켓 쪽)
+                            pipeline.addLast("flushCounter", flushCountingHandler);
+                            
+                            // 워커 스레드의 응답 flush를 이벤트 루프 턴 단위로 통합
+                            if (tcpServerConfig.getFlushConsolidationLimit() > 0) {
+                                pipeline.addLast("flushConsolidation", 
+                                        new FlushConsolidationHandler(tcpServerConfig.getFlushConsolidationLimit(), true));
+                            }
                             
                             // 길이 필드 기반 프레임 디코더/인코더 (4바이트 길이 필드)
                             pipeline.addLast("frameDecoder", 
@@ -115,20 +171,48 @@ public class SipsvcTcpServer {
      * @param message 전송할 메시지
      */
     public void sendMessage(String connectionId, SipsvcMessage message) {
-        Channel channel = clientChannels.get(connectionId);
-        
+        writeMessage(clientChannels.get(connectionId), connectionId, message);
+    }
+    
+    /**
+     * 클라이언트에게 메시지 전송 - 연결 컨텍스트의 채널로 직접 전송
+     * 
+     * @param connectionInfo 연결 정보
+     * @param message 전송할 메시지
+     */
+    public void sendMessage(ClientConnectionInfo connectionInfo, SipsvcMessage message) {
+        writeMessage(connectionInfo.getChannel(), connectionInfo.getConnectionId(), message);
+    }
+    
+    private void writeMessage(Channel channel, String connectionId, SipsvcMessage message) {
         if (channel == null || !channel.isActive()) {
             log.warn("비활성 연결로 메시지 전송 실패 - 연결 ID: {}", connectionId);
             return;
         }
         
         try {
+            SipsvcResponseWrittenEvent event = new SipsvcResponseWrittenEvent();
+            event.begin();
+            long startNanos = System.nanoTime();
             byte[] messageBytes = sipsvcProtocolParser.serializeMessage(message);
-            channel.writeAndFlush(io.netty.buffer.Unpooled.wrappedBuffer(messageBytes));
+            // 워커 배치 처리 중이면 flush는 배치 종료 시 채널별로 한 번만 수행
+            WriteBatch.write(channel, io.netty.buffer.Unpooled.wrappedBuffer(messageBytes));
+            sentMessageCount.increment();
+            requestStageMetrics.record(RequestStageMetrics.Stage.RESPONSE_WRITE, System.nanoTime() - startNanos);
+            
+            if (event.shouldCommit()) {
+                event.connectionId = connectionId;
+                event.requestId = message.getRequestId();
+                event.sessionId = message.getSessionId();
+                event.messageType = message.getType();
+                event.resultCode = message.getResultCode();
+                event.messageBytes = messageBytes.length;
+                event.commit();
+            }
             
             log.debug("sipsvc 메시지 전송 완료 - 연결 ID: {}, 크기: {} bytes", 
                     connectionId, messageBytes.length);
-            
+                    
         } catch (Exception e) {
             log.error("sipsvc 메시지 전송 실패 - 연결 ID: {}, 오류: {}", 
                     connectionId, e.getMessage(), e);
@@ -191,24 +275,81 @@ public class SipsvcTcpServer {
                 .count();
     }
     
+    /**
+     * accept 이벤트 루프 그룹 조회 (시작 전이면 null)
+     * 
+     * @return boss 이벤트 루프 그룹
+     */
+    public EventLoopGroup getBossGroup() {
+        return bossGroup;
+    }
+    
+    /**
+     * 클라이언트 채널 이벤트 루프 그룹 조회 (시작 전이면 null)
+     * 
+     * @return worker 이벤트 루프 그룹
+     */
+    public EventLoopGroup getWorkerGroup() {
+        return workerGroup;
+    }
+    
+    /**
+     * 소켓 flush 집계 핸들러 조회
+     * 
+     * @return flush 집계 핸들러
+     */
+    public FlushCountingHandler getFlushCountingHandler() {
+        return flushCountingHandler;
+    }
+    
+    /**
+     * sipsvc로 전송한 메시지 수 조회
+     * 
+     * @return 전송 메시지 수
+     */
+    public long getSentMessageCount() {
+        return sentMessageCount.sum();
+    }
+    
+    /**
+     * accept 단계 연결 제한 핸들러 조회
+     * 
+     * @return 연결 제한 핸들러
+     */
+    public ConnectionLimitHandler getConnectionLimitHandler() {
+        return connectionLimitHandler;
+    }
+    
+    /**
+     * 이벤트 루프에서 고속 처리한 heartbeat 수 조회
+     * 
+     * @return 고속 처리 heartbeat 수
+     */
+    public long getFastHeartbeatCount() {
+        return fastHeartbeatCount.sum();
+    }
+    
     /**
      * sipsvc 클라이언트 처리 핸들러
      */
     private class SipsvcChannelHandler extends ChannelInboundHandlerAdapter {
         
         private String connectionId;
+        private ClientConnectionInfo connection;
         
         @Override
         public void channelActive(ChannelHandlerContext ctx) throws Exception {
             InetSocketAddress remoteAddress = (InetSocketAddress) ctx.channel().remoteAddress();
             connectionId = generateConnectionId(remoteAddress);
             
-            // 연결 관리 서비스에 등록
-            connectionManagementService.registerConnection(
+            // 연결 관리 서비스에 등록하고 연결 컨텍스트를 채널에 보관
+            connection = connectionManagementService.registerConnection(
                     connectionId, 
                     remoteAddress.getAddress().getHostAddress(),
                     remoteAddress.getPort()
             );
+            connection.setChannel(ctx.channel());
+            ctx.channel().attr(CONNECTION_INFO).set(connection);
             
             // 채널 맵에 추가
             clientChannels.put(connectionId, ctx.channel());
@@ -237,6 +378,15 @@ public class SipsvcTcpServer {
         public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
             try {
                 io.netty.buffer.ByteBuf byteBuf = (io.netty.buffer.ByteBuf) msg;
+                
+                // heartbeat는 파싱/워커 큐 없이 미리 직렬화된 응답으로 즉시 처리
+                if (tcpServerConfig.isHeartbeatFastPath() && handleHeartbeatFast(ctx, byteBuf)) {
+                    return;
+                }
+                
+                SipsvcFrameReceivedEvent event = new SipsvcFrameReceivedEvent();
+                event.begin();
+                long decodeStartNanos = System.nanoTime();
                 byte[] data = new byte[byteBuf.readableBytes()];
                 byteBuf.readBytes(data);
                 
@@ -245,29 +395,84 @@ public class SipsvcTcpServer {
                 
                 // JSON 메시지 파싱
                 SipsvcMessage sipsvcMessage = sipsvcProtocolParser.parseMessage(data);
+                requestStageMetrics.record(RequestStageMetrics.Stage.SIPSVC_DECODE, System.nanoTime() - decodeStartNanos);
+                event.end();
+                
+                // 상관 ID와 요청 ID 생성
+                long correlationId = correlationSequence.incrementAndGet();
+                String requestId = generateRequestId(sipsvcMessage, correlationId);
+                
+                if (event.shouldCommit()) {
+                    event.connectionId = connectionId;
+                    event.requestId = requestId;
+                    event.correlationId = correlationId;
+                    event.sessionId = sipsvcMessage.getSessionId();
+                    event.messageType = sipsvcMessage.getType();
+                    event.frameBytes = data.length;
+                    event.commit();
+                }
                 
                 // 연결 관리 서비스에 활동 업데이트
-                connectionManagementService.incrementClientRequests(connectionId);
+                connectionManagementService.incrementClientRequests(connection);
                 
-                // 요청 ID 생성
-                String requestId = generateRequestId(sipsvcMessage);
+                // 클라이언트별 속도 제한 - 초과한 execute 요청은 큐에 넣지 않고 즉시 거절
+                if (SipsvcMessage.Type.EXECUTE.equals(sipsvcMessage.getType()) 
+                        && !connectionManagementService.tryAcquireRequest(connection)) {
+                    sendMessage(connection, sipsvcProtocolParser.createExecuteResponse(
+                            sipsvcMessage, null, 
+                            SipsvcMessage.ResultCode.RATE_LIMITED, 
+                            "Rate limit exceeded"));
+                    journalRejected(TransactionJournal.Outcome.RATE_LIMITED, sipsvcMessage, correlationId, requestId, 
+                            System.currentTimeMillis(), SipsvcMessage.ResultCode.RATE_LIMITED);
+                    return;
+                }
                 
-                // WorkerMessage 생성 및 큐에 추가
+                // WorkerMessage 생성 및 큐에 추가 - 연결 컨텍스트와 공정 스케줄링용 클라이언트 정보를 함께 전달
                 WorkerMessage workerMessage = WorkerMessage.createSipsvcRequest(
                         connectionId, requestId, sipsvcMessage);
+                workerMessage.setConnection(connection);
+                workerMessage.setCorrelationId(correlationId);
+                workerMessage.setClientId(connection.getClientId());
+                workerMessage.setClientWeight(connection.getWeight());
+                
+                // 로그 추적 요청 표시 (INSUPC 질의 세션은 전송 직전에 추적 대상으로 연결)
+                if (hotPathLogPolicy.isTraced(sipsvcMessage)) {
+                    workerMessage.setTraced(true);
+                }
+                
+                // 처리 기한 설정 - 이미 기한이 지난 요청은 큐에 넣지 않고 폐기
+                deadlineService.assignDeadline(workerMessage);
+                if (deadlineService.checkExpired(workerMessage.getDeadline(), 
+                        DeadlineService.Stage.BEFORE_QUEUE, requestId)) {
+                    journalRejected(TransactionJournal.Outcome.EXPIRED, sipsvcMessage, correlationId, requestId, 
+                            workerMessage.getReceivedTime(), null);
+                    return;
+                }
+                
+                // 이벤트 루프 파이프라인 - 워커 큐를 거치지 않고 바로 처리
+                if (pipelineConfig.isEventLoopMode()) {
+                    messageProcessingService.processSipsvcRequest(workerMessage);
+                    return;
+                }
                 
                 boolean queued = workerThreadPool.submitMessage(workerMessage);
                 
                 if (!queued) {
-                    log.error("WorkerThread 큐 포화 - 메시지 처리 실패: 연결 ID: {}, 요청 ID: {}", 
-                            connectionId, requestId);
+                    // 과부하 시 요청마다 발생하므로 로그 정책으로 건수 제한
+                    if (log.isWarnEnabled() && hotPathLogPolicy.shouldLog(
+                            HotPathLogPolicy.Category.WORKER, workerMessage.isTraced())) {
+                        log.warn("WorkerThread 큐 포화 또는 과부하 - 메시지 처리 실패: 연결 ID: {}, 요청 ID: {}", 
+                                connectionId, requestId);
+                    }
                     
                     // 오류 응답 전송
                     SipsvcMessage errorResponse = sipsvcProtocolParser.createExecuteResponse(
                             sipsvcMessage, null, 
                             SipsvcMessage.ResultCode.INTERNAL_ERROR, 
                             "Server overloaded");
-                    sendMessage(connectionId, errorResponse);
+                    sendMessage(connection, errorResponse);
+                    journalRejected(TransactionJournal.Outcome.OVERLOADED, sipsvcMessage, correlationId, requestId, 
+                            workerMessage.getReceivedTime(), SipsvcMessage.ResultCode.INTERNAL_ERROR);
                 }
                 
             } catch (Exception e) {
@@ -281,13 +486,35 @@ public class SipsvcTcpServer {
             }
         }
         
-        @Override
-        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
-            if (evt instanceof io.netty.handler.timeout.IdleStateEvent) {
-                log.warn("sipsvc 클라이언트 유휴 타임아웃 - 연결 ID: {}", connectionId);
-                ctx.close();
+        /**
+         * 큐에 넣지 않고 거절한 execute 요청을 거래 저널에 기록
+         */
+        private void journalRejected(TransactionJournal.Outcome outcome, SipsvcMessage request, long correlationId, 
+                                     String requestId, long receivedTime, String resultCode) {
+            if (SipsvcMessage.Type.EXECUTE.equals(request.getType())) {
+                transactionJournal.record(outcome, correlationId, requestId, request.getPhoneNumber(), 
+                        receivedTime, null, resultCode);
             }
-            super.userEventTriggered(ctx, evt);
+        }
+        
+        /**
+         * heartbeat 고속 처리
+         * 
+         * @return heartbeat로 처리했으면 true
+         */
+        private boolean handleHeartbeatFast(ChannelHandlerContext ctx, io.netty.buffer.ByteBuf request) {
+            io.netty.buffer.ByteBuf response = heartbeatFastPath.tryBuildResponse(request, ctx.alloc());
+            if (response == null) {
+                return false;
+            }
+            
+            connectionManagementService.incrementClientRequests(connection);
+            connectionManagementService.updateClientHeartbeat(connection);
+            
+            ctx.writeAndFlush(response);
+            sentMessageCount.increment();
+            fastHeartbeatCount.increment();
+            return true;
         }
         
         @Override
@@ -298,26 +525,23 @@ public class SipsvcTcpServer {
         }
         
         /**
-         * 연결 ID 생성
+         * 연결 ID 생성 (연결 시 한 번, 로그/관리 조회용)
          */
         private String generateConnectionId(InetSocketAddress remoteAddress) {
-            return String.format("sipsvc_%s_%d_%d", 
-                    remoteAddress.getAddress().getHostAddress(),
-                    remoteAddress.getPort(),
-                    System.currentTimeMillis());
+            return "sipsvc_" + remoteAddress.getAddress().getHostAddress() 
+                    + "_" + remoteAddress.getPort() 
+                    + "_" + connectionSequence.incrementAndGet();
         }
         
         /**
-         * 요청 ID 생성
+         * 요청 ID 생성 - sipsvc가 요청 ID를 보내지 않은 경우에만 상관 ID로 만듦
          */
-        private String generateRequestId(SipsvcMessage message) {
-            if (message.getRequestId() != null && !message.getRequestId().trim().isEmpty()) {
+        private String generateRequestId(SipsvcMessage message, long correlationId) {
+            if (message.getRequestId() != null && !message.getRequestId().isBlank()) {
                 return message.getRequestId();
             }
             
-            return String.format("req_%s_%d", 
-                    message.getSessionId() != null ? message.getSessionId() : "unknown",
-                    System.currentTimeMillis());
+            return "req_" + correlationId;
         }
     }
 }
@@ -0,0 +1,83 @@
+package com.in.amas.insupclient.tcp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.net.Inet4Address;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * 소켓 바이트 캡처 핸들러
+ * 
+ * 파이프라인 맨 앞(head 쪽)에 두어 소켓에서 읽은 바이트와 소켓으로 나가는 바이트를 그대로 캡처 링에 복사함
+ * 채널마다 하나씩 만들어 연결 주소와 방향별 누적 바이트 수(pcap TCP seq/ack)를 보관하며,
+ * 메시지는 복사만 하고 그대로 다음 핸들러로 넘김
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public class WireCaptureHandler extends ChannelDuplexHandler {
+    
+    private final WireCaptureRing ring;
+    
+    private int localAddr;
+    private int remoteAddr;
+    private int localPort;
+    private int remotePort;
+    
+    // 방향별 누적 바이트 수 (이벤트 루프에서만 접근)
+    private int receivedBytes;
+    private int sentBytes;
+    
+    public WireCaptureHandler(WireCaptureRing ring) {
+        this.ring = ring;
+    }
+    
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) throws Exception {
+        // 연결이 만들어진 뒤에 주소가 정해지는 클라이언트 채널을 위해 활성화 시점에 확인
+        SocketAddress local = ctx.channel().localAddress();
+        SocketAddress remote = ctx.channel().remoteAddress();
+        if (local instanceof InetSocketAddress address) {
+            localAddr = ipv4(address);
+            localPort = address.getPort();
+        }
+        if (remote instanceof InetSocketAddress address) {
+            remoteAddr = ipv4(address);
+            remotePort = address.getPort();
+        }
+        super.channelActive(ctx);
+    }
+    
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception {
+        if (msg instanceof ByteBuf data && data.isReadable()) {
+            ring.record(data, remoteAddr, localAddr, remotePort, localPort, receivedBytes, sentBytes);
+            receivedBytes += data.readableBytes();
+        }
+        super.channelRead(ctx, msg);
+    }
+    
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        if (msg instanceof ByteBuf data && data.isReadable()) {
+            ring.record(data, localAddr, remoteAddr, localPort, remotePort, sentBytes, receivedBytes);
+            sentBytes += data.readableBytes();
+        }
+        super.write(ctx, msg, promise);
+    }
+    
+    /**
+     * IPv4 주소를 정수로 변환 (IPv6 등 그 밖의 주소는 0)
+     */
+    private static int ipv4(InetSocketAddress address) {
+        if (address.getAddress() instanceof Inet4Address inet4) {
+            byte[] bytes = inet4.getAddress();
+            return ((bytes[0] & 0xFF) << 24) | ((bytes[1] & 0xFF) << 16) | ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,321 @@
+package com.in.amas.insupclient.tcp;
+
+import io.netty.buffer.ByteBuf;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 고정 크기 다이렉트 메모리 캡처 링
+ * 
+ * 소켓에서 읽거나 소켓으로 쓴 바이트를 레코드(헤더 + 잘라낸 데이터) 단위로 차례로 저장하고,
+ * 공간이 부족하면 가장 오래된 레코드부터 덮어씀
+ * 기록은 여러 이벤트 루프에서 동시에 호출되므로 링 하나를 잠금으로 보호하되,
+ * 잠금 구간은 위치 계산과 snapLength 이하의 메모리 복사뿐이라 짧음
+ * 힙 객체를 만들지 않으므로 캡처를 켜 두어도 GC 부담이 늘지 않음
+ * 
+ * 덤프 시에는 살아 있는 레코드를 최대 COPY_CHUNK_SIZE씩 잠금 안에서 힙으로 복사하고,
+ * pcap 변환(합성 IPv4/TCP 헤더, LINKTYPE_RAW)은 잠금 밖에서 수행함
+ * 조각 사이에는 잠금을 풀어 기록이 계속되며, 복사하기 전에 덮어쓴 레코드는 건너뜀
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public class WireCaptureRing {
+    
+    // 레코드 헤더: 길이(4) + 시각 마이크로초(8) + 출발/도착 주소(4+4) + 출발/도착 포트(2+2) + seq(4) + ack(4) + 원래 길이(4) + 저장 길이(4)
+    private static final int RECORD_HEADER_SIZE = 40;
+    
+    // 덤프 시 잠금 한 번에 복사하는 최대 바이트 수 (기록하는 이벤트 루프의 대기 시간 상한)
+    private static final int COPY_CHUNK_SIZE = 64 * 1024;
+    
+    // pcap 상수
+    private static final int PCAP_MAGIC = 0xa1b2c3d4;
+    private static final int LINKTYPE_RAW = 101;
+    private static final int IP_TCP_HEADER_SIZE = 40;
+    private static final int TCP_FLAGS_PSH_ACK = 0x18;
+    
+    private final ByteBuffer ring;
+    private final int capacity;
+    private final int snapLength;
+    
+    // 시각 계산 기준 (마이크로초 정밀도를 위해 nanoTime 경과분을 시작 시각에 더함)
+    private final long baseEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    private final long baseNanos = System.nanoTime();
+    
+    // 링 상태 (this로 보호)
+    private int head = 0;         // 가장 오래된 레코드 위치
+    private int tail = 0;         // 다음 기록 위치
+    private int dataEnd = -1;     // 되감기 후 링 끝쪽 데이터의 끝 (-1이면 되감기 없음)
+    private int recordCount = 0;
+    private long capturedCount = 0;
+    private long overwrittenCount = 0;
+    
+    /**
+     * @param capacity 링 크기 (bytes)
+     * @param snapLength 레코드당 최대 저장 바이트 수
+     */
+    public WireCaptureRing(int capacity, int snapLength) {
+        this.snapLength = Math.max(0, snapLength);
+        this.capacity = Math.max(capacity, recordSize(this.snapLength));
+        this.ring = ByteBuffer.allocateDirect(this.capacity);
+    }
+    
+    /**
+     * 소켓 바이트 기록 (이벤트 루프에서 호출)
+     * 
+     * @param data 기록할 바이트 (readerIndex부터 읽을 수 있는 만큼, 인덱스는 바꾸지 않음)
+     * @param srcAddr 출발 IPv4 주소
+     * @param dstAddr 도착 IPv4 주소
+     * @param srcPort 출발 포트
+     * @param dstPort 도착 포트
+     * @param seq 출발 쪽 스트림 위치
+     * @param ack 도착 쪽 스트림 위치
+     */
+    public void record(ByteBuf data, int srcAddr, int dstAddr, int srcPort, int dstPort, int seq, int ack) {
+        int originalLength = data.readableBytes();
+        int capturedLength = Math.min(originalLength, snapLength);
+        int size = recordSize(capturedLength);
+        long timestampMicros = baseEpochMicros + (System.nanoTime() - baseNanos) / 1000;
+        
+        synchronized (this) {
+            int offset = reserve(size);
+            
+            ring.putInt(offset, size);
+            ring.putLong(offset + 4, timestampMicros);
+            ring.putInt(offset + 12, srcAddr);
+            ring.putInt(offset + 16, dstAddr);
+            ring.putShort(offset + 20, (short) srcPort);
+            ring.putShort(offset + 22, (short) dstPort);
+            ring.putInt(offset + 24, seq);
+            ring.putInt(offset + 28, ack);
+            ring.putInt(offset + 32, originalLength);
+            ring.putInt(offset + 36, capturedLength);
+            
+            if (capturedLength > 0) {
+                ring.clear();
+                ring.limit(offset + RECORD_HEADER_SIZE + capturedLength);
+                ring.position(offset + RECORD_HEADER_SIZE);
+                data.getBytes(data.readerIndex(), ring);
+                // 절대 위치 접근도 limit 검사를 받으므로 다시 전체 범위로 되돌림
+                ring.clear();
+            }
+            
+            recordCount++;
+            capturedCount++;
+        }
+    }
+    
+    /**
+     * 레코드 공간 확보 - 필요하면 링 처음으로 되감고 겹치는 오래된 레코드를 버림
+     * 
+     * @return 기록 위치
+     */
+    private int reserve(int size) {
+        if (tail + size > capacity) {
+            // 링 끝에 남은 레코드를 모두 버리고 처음으로 되감기
+            while (recordCount > 0 && head >= tail) {
+                evictHead();
+            }
+            if (recordCount == 0) {
+                head = 0;
+                dataEnd = -1;
+            } else {
+                dataEnd = tail;
+            }
+            tail = 0;
+        }
+        
+        while (recordCount > 0 && head >= tail && head < tail + size) {
+            evictHead();
+        }
+        
+        int offset = tail;
+        tail += size;
+        return offset;
+    }
+    
+    private void evictHead() {
+        head += ring.getInt(head);
+        recordCount--;
+        overwrittenCount++;
+        if (head == dataEnd) {
+            head = 0;
+            dataEnd = -1;
+        }
+    }
+    
+    private static int recordSize(int capturedLength) {
+        // 헤더 정렬을 위해 4바이트 단위로 맞춤
+        return (RECORD_HEADER_SIZE + capturedLength + 3) & ~3;
+    }
+    
+    /**
+     * 링에 남아 있는 레코드 수
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+    
+    /**
+     * 시작 이후 기록한 레코드 수
+     */
+    public synchronized long getCapturedCount() {
+        return capturedCount;
+    }
+    
+    /**
+     * 공간 부족으로 덮어쓴 레코드 수
+     */
+    public synchronized long getOverwrittenCount() {
+        return overwrittenCount;
+    }
+    
+    /**
+     * 링 크기 (bytes)
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * 레코드당 최대 저장 바이트 수
+     */
+    public int getSnapLength() {
+        return snapLength;
+    }
+    
+    /**
+     * 링에 남아 있는 레코드를 pcap 형식으로 출력
+     * 
+     * @param out 출력 스트림
+     * @return 출력한 패킷 수
+     * @throws IOException 출력 실패
+     */
+    public int writePcap(OutputStream out) throws IOException {
+        DataOutputStream pcap = new DataOutputStream(out);
+        
+        // 전역 헤더 (매직 값으로 바이트 순서를 판별하므로 빅엔디안으로 기록)
+        pcap.writeInt(PCAP_MAGIC);
+        pcap.writeShort(2);
+        pcap.writeShort(4);
+        pcap.writeInt(0);
+        pcap.writeInt(0);
+        pcap.writeInt(IP_TCP_HEADER_SIZE + snapLength);
+        pcap.writeInt(LINKTYPE_RAW);
+        
+        // 덤프 시작 시점에 남아 있던 레코드 범위 (레코드 순번은 덮어쓴 수부터 기록한 수 직전까지)
+        long nextSeq;
+        long endSeq;
+        int position;
+        synchronized (this) {
+            nextSeq = overwrittenCount;
+            endSeq = capturedCount;
+            position = head;
+        }
+        
+        byte[] chunk = new byte[Math.max(COPY_CHUNK_SIZE, recordSize(snapLength))];
+        ByteBuffer record = ByteBuffer.wrap(chunk);
+        byte[] ipHeader = new byte[20];
+        int count = 0;
+        
+        while (nextSeq < endSeq) {
+            int length = 0;
+            
+            synchronized (this) {
+                // 잠금을 풀어 둔 사이 다음 레코드가 덮어쓰였으면 남아 있는 가장 오래된 레코드부터 계속
+                if (overwrittenCount > nextSeq) {
+                    nextSeq = overwrittenCount;
+                    position = head;
+                }
+                
+                // 덮어쓰이지 않은 레코드는 위치가 바뀌지 않으므로 이어서 복사
+                ring.clear();
+                while (nextSeq < endSeq) {
+                    int size = ring.getInt(position);
+                    if (length + size > chunk.length) {
+                        break;
+                    }
+                    ring.get(position, chunk, length, size);
+                    length += size;
+                    nextSeq++;
+                    position += size;
+                    if (position == dataEnd) {
+                        position = 0;
+                    }
+                }
+            }
+            
+            for (int offset = 0; offset < length; count++) {
+                offset += writePacket(pcap, record, offset, count, ipHeader);
+            }
+        }
+        
+        pcap.flush();
+        return count;
+    }
+    
+    /**
+     * 복사한 레코드 하나를 pcap 패킷으로 출력
+     * 
+     * @return 레코드 크기
+     */
+    private int writePacket(DataOutputStream pcap, ByteBuffer record, int offset, int id, byte[] ipHeader) 
+            throws IOException {
+        int size = record.getInt(offset);
+        long timestampMicros = record.getLong(offset + 4);
+        int originalLength = record.getInt(offset + 32);
+        int capturedLength = record.getInt(offset + 36);
+        
+        // 패킷 헤더
+        pcap.writeInt((int) (timestampMicros / 1_000_000));
+        pcap.writeInt((int) (timestampMicros % 1_000_000));
+        pcap.writeInt(IP_TCP_HEADER_SIZE + capturedLength);
+        pcap.writeInt(IP_TCP_HEADER_SIZE + originalLength);
+        
+        // 합성 IPv4 헤더
+        writeIpHeader(ipHeader, id, Math.min(0xFFFF, IP_TCP_HEADER_SIZE + originalLength),
+                record.getInt(offset + 12), record.getInt(offset + 16));
+        pcap.write(ipHeader);
+        
+        // 합성 TCP 헤더 (체크섬은 0)
+        pcap.writeShort(record.getShort(offset + 20));
+        pcap.writeShort(record.getShort(offset + 22));
+        pcap.writeInt(record.getInt(offset + 24));
+        pcap.writeInt(record.getInt(offset + 28));
+        pcap.writeByte(5 << 4);
+        pcap.writeByte(TCP_FLAGS_PSH_ACK);
+        pcap.writeShort(0xFFFF);
+        pcap.writeShort(0);
+        pcap.writeShort(0);
+        
+        pcap.write(record.array(), offset + RECORD_HEADER_SIZE, capturedLength);
+        return size;
+    }
+    
+    private static void writeIpHeader(byte[] header, int id, int totalLength, int srcAddr, int dstAddr) {
+        ByteBuffer ip = ByteBuffer.wrap(header);
+        ip.put(0, (byte) 0x45);
+        ip.put(1, (byte) 0);
+        ip.putShort(2, (short) totalLength);
+        ip.putShort(4, (short) id);
+        ip.putShort(6, (short) 0x4000);
+        ip.put(8, (byte) 64);
+        ip.put(9, (byte) 6);
+        ip.putShort(10, (short) 0);
+        ip.putInt(12, srcAddr);
+        ip.putInt(16, dstAddr);
+        
+        int sum = 0;
+        for (int i = 0; i < header.length; i += 2) {
+            sum += ip.getShort(i) & 0xFFFF;
+        }
+        while ((sum >> 16) != 0) {
+            sum = (sum & 0xFFFF) + (sum >> 16);
+        }
+        ip.putShort(10, (short) ~sum);
+    }
+}
@@ -0,0 +1,91 @@
+package com.in.amas.insupclient.tcp;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 워커 스레드 단위 쓰기 배치
+ * 
+ * 배치가 열려 있는 스레드에서의 쓰기는 flush 없이 채널 버퍼에만 쌓이고,
+ * 배치를 닫을 때 쓰기가 있었던 채널마다 한 번씩 flush 함
+ * 같은 sipsvc 연결로 가는 응답 여러 건이 한 번의 write 시스템 콜로 전송됨
+ * 
+ * 배치가 열려 있지 않은 스레드(Netty 이벤트 루프, 가상 스레드 등)에서는 기존처럼 즉시 writeAndFlush
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public final class WriteBatch implements AutoCloseable {
+    
+    private static final ThreadLocal<WriteBatch> CURRENT = new ThreadLocal<>();
+    
+    // flush 대기 중인 채널 (쓰기 순서 유지)
+    private final Set<Channel> pendingFlush = new LinkedHashSet<>();
+    
+    private WriteBatch() {
+    }
+    
+    /**
+     * 현재 스레드에서 쓰기 배치 시작
+     * 
+     * @return 쓰기 배치 (try-with-resources로 닫아야 함)
+     */
+    public static WriteBatch begin() {
+        WriteBatch batch = new WriteBatch();
+        CURRENT.set(batch);
+        return batch;
+    }
+    
+    /**
+     * 채널에 메시지 쓰기 - 배치가 열려 있으면 flush를 배치 종료 시점으로 미룸
+     * 
+     * @param channel 대상 채널
+     * @param msg 전송할 메시지
+     * @return 쓰기 future
+     */
+    public static ChannelFuture write(Channel channel, Object msg) {
+        WriteBatch batch = CURRENT.get();
+        
+        if (batch == null) {
+            return channel.writeAndFlush(msg);
+        }
+        
+        batch.pendingFlush.add(channel);
+        return channel.write(msg);
+    }
+    
+    /**
+     * 현재 스레드 배치에 쌓인 쓰기를 즉시 flush (재시도 대기 등 블로킹 전에 호출)
+     */
+    public static void flushCurrent() {
+        WriteBatch batch = CURRENT.get();
+        if (batch != null) {
+            batch.flush();
+        }
+    }
+    
+    /**
+     * 쓰기가 있었던 채널을 한 번씩 flush
+     */
+    public void flush() {
+        for (Channel channel : pendingFlush) {
+            channel.flush();
+        }
+        pendingFlush.clear();
+    }
+    
+    /**
+     * 배치 종료 - 남은 쓰기를 flush 하고 현재 스레드에서 배치 해제
+     */
+    @Override
+    public void close() {
+        try {
+            flush();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.in.amas.insupclient.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA - Generic Cell Rate Algorithm)
+ * 
+ * 토큰 수 대신 "이론적 도착 시각(TAT)" 하나만 AtomicLong으로 유지하고 CAS로 갱신함
+ * 초당 rate개를 평균으로 허용하며, 유휴 상태였다면 최대 burst개까지 연속 허용
+ * Netty 이벤트 루프 등 여러 스레드에서 동시에 호출해도 안전함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public final class TokenBucket {
+    
+    // 토큰 1개가 채워지는 간격
+    private final long emissionIntervalNanos;
+    
+    // 허용되는 TAT 선행 한도 (burst개 분량)
+    private final long burstToleranceNanos;
+    
+    private final AtomicLong theoreticalArrivalNanos;
+    
+    /**
+     * @param ratePerSecond 초당 허용 수 (0보다 커야 함)
+     * @param burst 최대 연속 허용 수 (1 이상)
+     */
+    public TokenBucket(double ratePerSecond, int burst) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond must be positive: " + ratePerSecond);
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, burst);
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+    
+    /**
+     * 토큰 1개 획득 시도
+     * 
+     * @return 허용 여부
+     */
+    public boolean tryAcquire() {
+        long now = System.nanoTime();
+        
+        while (true) {
+            long tat = theoreticalArrivalNanos.get();
+            long base = tat - now > 0 ? tat : now;
+            long newTat = base + emissionIntervalNanos;
+            
+            if (newTat - now > burstToleranceNanos) {
+                return false;
+            }
+            
+            if (theoreticalArrivalNanos.compareAndSet(tat, newTat)) {
+                return true;
+            }
+        }
+    }
+}
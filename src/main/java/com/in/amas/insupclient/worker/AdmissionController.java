@@ -0,0 +1,158 @@
+package com.in.amas.insupclient.worker;
+
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.dto.WorkerMessage;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 큐 체류 시간(sojourn time) 기반 부하 제어 (CoDel 방식)
+ * 
+ * 큐 길이가 아니라 메시지가 실제로 큐에서 기다린 시간을 감시함
+ * interval 동안 관측된 최소 체류 시간이 target을 넘으면 큐가 계속 밀려 있다는 뜻이므로 과부하로 판단하고,
+ * 과부하 상태에서는 신규 execute 요청을 즉시 거절하고 target 이상 기다린 execute 요청은 꺼낼 때 폐기함
+ * 큐가 비거나 최소 체류 시간이 target 아래로 내려오면 다음 interval에 과부하 상태가 해제됨
+ * 
+ * 워커 큐마다 별도 인스턴스를 사용함 - 한 큐가 비어 있다고 해서 밀려 있는 다른 큐의 과부하가 가려지지 않도록
+ * 체류 시간, 유휴 상태, 과부하 판단을 모두 큐 단위로 관리함
+ * 
+ * heartbeat, auth, INSUPC 응답은 거절/폐기 대상이 아님
+ * 거절/폐기는 과부하 중 요청마다 발생하므로 개별 로그 없이 카운터로만 집계하고, 상태 전환만 로그로 남김
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+public class AdmissionController {
+    
+    private final int queueId;
+    private final long targetNanos;
+    private final long intervalNanos;
+    
+    // 현재 interval 시작 시각
+    private final AtomicLong intervalStartNanos;
+    
+    // 현재 interval 동안 관측된 최소 체류 시간
+    private final AtomicLong minSojournNanos = new AtomicLong(Long.MAX_VALUE);
+    
+    private volatile boolean overloaded = false;
+    
+    private final AtomicLong shedCount = new AtomicLong(0);
+    private final AtomicLong droppedCount = new AtomicLong(0);
+    
+    /**
+     * @param queueId 감시할 워커 큐 ID
+     * @param targetMillis 목표 체류 시간 (밀리초)
+     * @param intervalMillis 과부하 판단 간격 (밀리초)
+     */
+    public AdmissionController(int queueId, long targetMillis, long intervalMillis) {
+        this.queueId = queueId;
+        this.targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.intervalStartNanos = new AtomicLong(System.nanoTime());
+    }
+    
+    /**
+     * 큐에 넣기 전 수락 여부 판단 - 과부하 상태에서는 신규 execute 요청을 거절
+     * 수락된 메시지에는 체류 시간 측정을 위한 큐 진입 시각을 기록
+     * 
+     * 거절만 계속되어 큐에서 꺼내는 메시지가 없어도 과부하 상태가 해제되도록 여기서도 상태를 갱신하며,
+     * 큐가 비어 있으면 체류 시간 0으로 관측하여 다음 interval에 바로 해제되게 함
+     * 
+     * @param message 큐에 넣을 메시지
+     * @param queueEmpty 감시 대상 큐가 현재 비어 있는지 여부
+     * @return 수락 여부
+     */
+    public boolean admit(WorkerMessage message, boolean queueEmpty) {
+        long now = System.nanoTime();
+        message.setEnqueueTimeNanos(now);
+        
+        if (queueEmpty && minSojournNanos.get() != 0) {
+            minSojournNanos.set(0);
+        }
+        updateState(now);
+        
+        if (overloaded && isSheddable(message)) {
+            shedCount.incrementAndGet();
+            return false;
+        }
+        
+        return true;
+    }
+    
+    /**
+     * 큐에서 꺼낸 메시지의 체류 시간을 기록하고 폐기 여부 판단
+     * 
+     * @param message 큐에서 꺼낸 메시지
+     * @return true이면 처리하지 않고 폐기
+     */
+    public boolean onDequeue(WorkerMessage message) {
+        long now = System.nanoTime();
+        long sojourn = message.getEnqueueTimeNanos() > 0 ? now - message.getEnqueueTimeNanos() : 0;
+        
+        minSojournNanos.accumulateAndGet(sojourn, Math::min);
+        updateState(now);
+        
+        if (overloaded && sojourn > targetNanos && isSheddable(message)) {
+            droppedCount.incrementAndGet();
+            return true;
+        }
+        
+        return false;
+    }
+    
+    /**
+     * 이 컨트롤러의 워커 큐가 비어 있음을 알림 - 큐가 비워졌으므로 밀려 있는 상태가 아님
+     * 다른 큐를 기다리다 유휴 상태가 된 경우에는 호출하지 않아야 함
+     */
+    public void onIdle() {
+        minSojournNanos.set(0);
+        updateState(System.nanoTime());
+    }
+    
+    /**
+     * interval이 지났으면 최소 체류 시간으로 과부하 상태를 갱신하고 새 interval 시작
+     */
+    private void updateState(long now) {
+        long start = intervalStartNanos.get();
+        if (now - start < intervalNanos || !intervalStartNanos.compareAndSet(start, now)) {
+            return;
+        }
+        
+        long minSojourn = minSojournNanos.getAndSet(Long.MAX_VALUE);
+        boolean wasOverloaded = overloaded;
+        overloaded = minSojourn != Long.MAX_VALUE && minSojourn > targetNanos;
+        
+        if (overloaded != wasOverloaded) {
+            if (overloaded) {
+                log.warn("WorkerQueue {} 과부하 감지 - 최소 체류 시간: {}ms, 목표: {}ms", queueId,
+                        TimeUnit.NANOSECONDS.toMillis(minSojourn), TimeUnit.NANOSECONDS.toMillis(targetNanos));
+            } else {
+                log.info("WorkerQueue {} 과부하 해제 - 거절: {}, 폐기: {}", queueId, shedCount.get(), droppedCount.get());
+            }
+        }
+    }
+    
+    /**
+     * 거절/폐기 대상 메시지인지 확인 (sipsvc execute 요청만 대상)
+     */
+    private boolean isSheddable(WorkerMessage message) {
+        return message.getMessageType() == WorkerMessage.MessageType.SIPSVC_REQUEST
+                && message.getSipsvcMessage() != null
+                && SipsvcMessage.Type.EXECUTE.equals(message.getSipsvcMessage().getType());
+    }
+    
+    public boolean isOverloaded() {
+        return overloaded;
+    }
+    
+    public long getShedCount() {
+        return shedCount.get();
+    }
+    
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
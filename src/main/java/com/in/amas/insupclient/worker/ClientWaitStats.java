@@ -0,0 +1,62 @@
+package com.in.amas.insupclient.worker;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 클라이언트별 워커 큐 대기 시간 집계
+ * 공정 스케줄링 결과(클라이언트별로 처리 몫을 받고 있는지)를 확인하기 위한 지표로,
+ * 워커가 메시지를 꺼낼 때 큐 진입 시각 기준 대기 시간을 누적함
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+public class ClientWaitStats {
+    
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    /**
+     * 대기 시간 기록
+     * 
+     * @param clientId 클라이언트 ID
+     * @param waitNanos 대기 시간 (나노초)
+     */
+    public void record(String clientId, long waitNanos) {
+        Entry entry = entries.get(clientId);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(clientId, k -> new Entry());
+        }
+        entry.count.increment();
+        entry.totalWaitNanos.add(waitNanos);
+    }
+    
+    /**
+     * 대기 시간이 기록된 클라이언트 ID 목록
+     */
+    public Set<String> getClientIds() {
+        return entries.keySet();
+    }
+    
+    /**
+     * 처리 시작된 메시지 수
+     */
+    public long getCount(String clientId) {
+        Entry entry = entries.get(clientId);
+        return entry != null ? entry.count.sum() : 0;
+    }
+    
+    /**
+     * 누적 대기 시간 (나노초)
+     */
+    public double getTotalWaitNanos(String clientId) {
+        Entry entry = entries.get(clientId);
+        return entry != null ? entry.totalWaitNanos.sum() : 0;
+    }
+    
+    private static final class Entry {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+    }
+}
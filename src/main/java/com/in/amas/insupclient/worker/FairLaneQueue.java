@@ -0,0 +1,206 @@
+package com.in.amas.insupclient.worker;
+
+import com.in.amas.insupclient.dto.WorkerMessage;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 워커 큐의 레인 하나를 구성하는 큐
+ * 
+ * 공정 모드에서는 메시지를 클라이언트별 흐름(flow)으로 나누어 보관하고
+ * Deficit Round-Robin으로 꺼내므로, 요청을 많이 보내는 클라이언트가 있어도
+ * 각 클라이언트는 가중치에 비례한 처리 몫을 받음 (라운드마다 가중치만큼 꺼낼 수 있음)
+ * 공정 모드가 아니면 흐름이 하나뿐이므로 일반 FIFO 큐와 동일하게 동작함
+ * 용량 제한은 레인 전체가 공유하는 WorkerQueue에서 관리하며, 용량이 가득 찼을 때 공정 모드에서는
+ * 가장 긴 흐름의 맨 뒤 메시지를 밀어내고 새 메시지를 넣음 (한 클라이언트가 레인을 다 채워도 다른 클라이언트는 들어올 수 있음)
+ * 
+ * 모든 변경은 이 객체의 모니터 안에서 수행되며, 크기와 활성 흐름 수 조회는 잠금 없이 가능
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+final class FairLaneQueue {
+    
+    // 클라이언트 식별이 없는 메시지(미인증 연결, INSUPC 응답 등)가 모이는 흐름
+    private static final String DEFAULT_FLOW = "";
+    
+    private final boolean fair;
+    
+    // 흐름은 허용 클라이언트 수만큼만 생기므로 비어도 제거하지 않고 재사용
+    private final Map<String, Flow> flows = new HashMap<>();
+    
+    // 대기 메시지가 있는 흐름 - 맨 앞 흐름이 현재 처리 차례
+    private final ArrayDeque<Flow> activeFlows = new ArrayDeque<>();
+    
+    private volatile int size = 0;
+    private volatile int activeFlowCount = 0;
+    
+    /**
+     * @param fair 클라이언트별 공정 스케줄링 여부
+     */
+    FairLaneQueue(boolean fair) {
+        this.fair = fair;
+    }
+    
+    /**
+     * 메시지 추가 (용량은 호출 측에서 미리 예약)
+     */
+    synchronized void offerLast(WorkerMessage message) {
+        String key = fair && message.getClientId() != null ? message.getClientId() : DEFAULT_FLOW;
+        Flow flow = flows.computeIfAbsent(key, k -> new Flow());
+        if (fair) {
+            flow.weight = Math.max(1, message.getClientWeight());
+        }
+        
+        if (flow.messages.isEmpty()) {
+            activeFlows.addLast(flow);
+            activeFlowCount++;
+        }
+        flow.messages.addLast(message);
+        size++;
+    }
+    
+    /**
+     * 용량이 가득 찬 상태에서 메시지 추가 - 가장 긴 흐름의 맨 뒤 메시지를 밀어내고 그 자리에 넣음
+     * 새 메시지의 흐름이 이미 가장 긴 흐름과 비슷한 길이이면 밀어내지 않음 (전체 메시지 수는 변하지 않음)
+     * 
+     * @param message 추가할 메시지
+     * @return 밀려난 메시지, 밀어내지 못했으면 추가하지 않은 message 자신
+     */
+    synchronized WorkerMessage offerDisplacing(WorkerMessage message) {
+        if (!fair) {
+            return message;
+        }
+        
+        String key = message.getClientId() != null ? message.getClientId() : DEFAULT_FLOW;
+        Flow arriving = flows.get(key);
+        int arrivingSize = arriving != null ? arriving.messages.size() : 0;
+        
+        Flow longest = null;
+        for (Flow flow : activeFlows) {
+            if (longest == null || flow.messages.size() > longest.messages.size()) {
+                longest = flow;
+            }
+        }
+        
+        // 밀어낸 뒤에도 새 메시지의 흐름이 가장 긴 흐름보다 길어지지 않을 때만 교체
+        if (longest == null || longest == arriving || longest.messages.size() <= arrivingSize + 1) {
+            return message;
+        }
+        
+        WorkerMessage displaced = longest.messages.pollLast();
+        size--;
+        offerLast(message);
+        return displaced;
+    }
+    
+    /**
+     * 처리 차례인 흐름의 맨 앞 메시지를 꺼냄
+     * 흐름의 이번 라운드 몫(deficit)을 다 쓰면 다음 흐름으로 차례를 넘김
+     * 
+     * @return 메시지 (비어 있으면 null)
+     */
+    synchronized WorkerMessage pollFirst() {
+        Flow flow = activeFlows.peekFirst();
+        if (flow == null) {
+            return null;
+        }
+        
+        if (flow.deficit <= 0) {
+            flow.deficit += flow.weight;
+        }
+        
+        WorkerMessage message = flow.messages.pollFirst();
+        flow.deficit--;
+        size--;
+        
+        if (flow.messages.isEmpty()) {
+            activeFlows.pollFirst();
+            activeFlowCount--;
+            flow.deficit = 0;
+        } else if (flow.deficit <= 0 && activeFlows.size() > 1) {
+            activeFlows.addLast(activeFlows.pollFirst());
+        }
+        
+        return message;
+    }
+    
+    /**
+     * 가장 늦게 차례가 오는 흐름의 맨 뒤 메시지를 꺼냄 (work stealing용)
+     * 
+     * @return 메시지 (비어 있으면 null)
+     */
+    synchronized WorkerMessage pollLast() {
+        Flow flow = activeFlows.peekLast();
+        if (flow == null) {
+            return null;
+        }
+        
+        WorkerMessage message = flow.messages.pollLast();
+        size--;
+        
+        if (flow.messages.isEmpty()) {
+            activeFlows.pollLast();
+            activeFlowCount--;
+            flow.deficit = 0;
+        }
+        
+        return message;
+    }
+    
+    /**
+     * 조건에 맞는 첫 메시지 검색 (제거하지 않음)
+     */
+    synchronized WorkerMessage find(Predicate<WorkerMessage> predicate) {
+        for (Flow flow : activeFlows) {
+            for (WorkerMessage message : flow.messages) {
+                if (predicate.test(message)) {
+                    return message;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 남은 메시지를 모두 넘기고 비움
+     */
+    synchronized void drainAll(Consumer<WorkerMessage> consumer) {
+        for (Flow flow : activeFlows) {
+            flow.messages.forEach(consumer);
+            flow.messages.clear();
+            flow.deficit = 0;
+        }
+        activeFlows.clear();
+        activeFlowCount = 0;
+        size = 0;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /**
+     * 대기 메시지가 있는 흐름 수
+     */
+    int getActiveFlowCount() {
+        return activeFlowCount;
+    }
+    
+    /**
+     * 클라이언트별 흐름
+     */
+    private static final class Flow {
+        private final ArrayDeque<WorkerMessage> messages = new ArrayDeque<>();
+        private int weight = 1;
+        private int deficit = 0;
+    }
+}
@@ -0,0 +1,274 @@
+package com.in.amas.insupclient.worker;
+
+import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.jfr.WorkerDispatchEvent;
+import com.in.amas.insupclient.metrics.RequestStageMetrics;
+import com.in.amas.insupclient.service.MessageProcessingService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드(Virtual Thread) 기반 메시지 디스패처
+ * WorkerMessage 하나당 가상 스레드 하나를 사용하며, 세마포어로 동시 처리 수를 제한
+ * 
+ * INSUPC 전송처럼 블로킹되는 구간이 있어도 플랫폼 스레드를 점유하지 않으므로
+ * worker.thread-pool-size 튜닝 없이 많은 동시 요청을 처리할 수 있음
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+@Slf4j
+public class VirtualThreadDispatcher {
+    
+    private static final String PINNED_EVENT_NAME = "jdk.VirtualThreadPinned";
+    private static final int MAX_RETRY_COUNT = 3;
+    
+    private final MessageProcessingService messageProcessingService;
+    private final int maxConcurrency;
+    private final Duration pinningThreshold;
+    private final Semaphore concurrencyLimit;
+    private final ExecutorService executor;
+    
+    private final AtomicLong dispatchedCount = new AtomicLong(0);
+    private final AtomicLong rejectedCount = new AtomicLong(0);
+    private final AtomicLong processedCount = new AtomicLong(0);
+    private final AtomicLong pinnedCount = new AtomicLong(0);
+    
+    private RecordingStream pinningStream;
+    
+    // 단계별 지연 시간 타이머 (실행 대기, 처리)
+    private RequestStageMetrics requestStageMetrics;
+    
+    public VirtualThreadDispatcher(MessageProcessingService messageProcessingService, int maxConcurrency,
+                                   String threadNamePrefix, Duration pinningThreshold) {
+        this.messageProcessingService = messageProcessingService;
+        this.maxConcurrency = maxConcurrency;
+        this.pinningThreshold = pinningThreshold;
+        this.concurrencyLimit = new Semaphore(maxConcurrency);
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix + "vt-", 0).factory());
+    }
+    
+    /**
+     * 단계별 지연 시간 타이머 설정
+     * 
+     * @param requestStageMetrics 단계별 타이머 (null이면 기록하지 않음)
+     */
+    public void setRequestStageMetrics(RequestStageMetrics requestStageMetrics) {
+        this.requestStageMetrics = requestStageMetrics;
+    }
+    
+    /**
+     * 디스패처 시작 - 가상 스레드 pinning 감시 시작
+     */
+    public void start() {
+        startPinningMonitor();
+        log.info("VirtualThreadDispatcher 시작 - 최대 동시 처리 수: {}, pinning 임계값: {}ms",
+                maxConcurrency, pinningThreshold.toMillis());
+    }
+    
+    /**
+     * 메시지를 가상 스레드에서 처리하도록 전달
+     * Netty 이벤트 루프에서 호출되므로 permit 대기 없이 즉시 반환
+     * 
+     * @param message 처리할 메시지
+     * @return 전달 성공 여부 (동시 처리 한도 초과 시 false)
+     */
+    public boolean dispatch(WorkerMessage message) {
+        if (!concurrencyLimit.tryAcquire()) {
+            rejectedCount.incrementAndGet();
+            log.warn("가상 스레드 동시 처리 한도 초과 - 메시지 처리 실패: {}", message.getRequestId());
+            return false;
+        }
+        
+        try {
+            executor.execute(() -> processMessage(message));
+            dispatchedCount.incrementAndGet();
+            return true;
+            
+        } catch (Exception e) {
+            concurrencyLimit.release();
+            log.error("가상 스레드 실행 실패 - 요청 ID: {}, 오류: {}", message.getRequestId(), e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 메시지 처리 (WorkerTask와 동일한 처리 및 재시도 규칙)
+     * dispatch에서 획득한 permit을 가진 상태로 시작하며, 끝날 때 permit을 반환함
+     * 가상 스레드에서는 sleep이 캐리어 스레드를 점유하지 않으므로 재시도를 그 자리에서 수행하되,
+     * 재시도 대기 동안에는 permit을 반환하여 실패 중인 백엔드가 동시 처리 한도를 잠자는 스레드로 채우지 않도록 함
+     */
+    private void processMessage(WorkerMessage message) {
+        boolean permitHeld = true;
+        try {
+            permitHeld = processWithRetry(message);
+        } finally {
+            if (permitHeld) {
+                concurrencyLimit.release();
+            }
+        }
+    }
+    
+    /**
+     * @return 반환 시점에 permit을 가지고 있는지 여부
+     */
+    private boolean processWithRetry(WorkerMessage message) {
+        long waitNanos = message.getEnqueueTimeNanos() > 0 ? System.nanoTime() - message.getEnqueueTimeNanos() : 0;
+        if (requestStageMetrics != null && message.getEnqueueTimeNanos() > 0) {
+            requestStageMetrics.record(RequestStageMetrics.Stage.QUEUE_WAIT, waitNanos);
+        }
+        
+        while (true) {
+            WorkerDispatchEvent event = new WorkerDispatchEvent();
+            event.begin();
+            long startNanos = System.nanoTime();
+            try {
+                message.setProcessingStartTime(System.currentTimeMillis());
+                
+                switch (message.getMessageType()) {
+                    case SIPSVC_REQUEST:
+                        messageProcessingService.processSipsvcRequest(message);
+                        break;
+                    
+                    case INSUPC_RESPONSE:
+                        messageProcessingService.processInsupcResponse(message);
+                        break;
+                    
+                    default:
+                        log.warn("알 수 없는 메시지 타입: {}", message.getMessageType());
+                }
+                
+                processedCount.incrementAndGet();
+                recordProcessTime(startNanos);
+                event.complete(message, -1, waitNanos);
+                return true;
+                
+            } catch (Exception e) {
+                log.error("가상 스레드 메시지 처리 실패: 요청 ID: {}, 오류: {}",
+                        message.getRequestId(), e.getMessage(), e);
+                recordProcessTime(startNanos);
+                event.complete(message, -1, waitNanos);
+                
+                if (message.getRetryCount() >= MAX_RETRY_COUNT) {
+                    log.error("메시지 재시도 횟수 초과: 요청 ID: {}, 최종 실패", message.getRequestId());
+                    messageProcessingService.handleFailedMessage(message, e);
+                    return true;
+                }
+                
+                message.setRetryCount(message.getRetryCount() + 1);
+                
+                // 대기 동안 permit 반환 후 재시도 전에 다시 획득
+                concurrencyLimit.release();
+                try {
+                    Thread.sleep(1000L * message.getRetryCount());
+                    concurrencyLimit.acquire();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    log.warn("재시도 대기 중 인터럽트: {}", message.getRequestId());
+                    return false;
+                }
+            }
+        }
+    }
+    
+    private void recordProcessTime(long startNanos) {
+        if (requestStageMetrics != null) {
+            requestStageMetrics.record(RequestStageMetrics.Stage.WORKER_PROCESS, System.nanoTime() - startNanos);
+        }
+    }
+    
+    /**
+     * JFR 스트림으로 가상 스레드 pinning 이벤트 감시
+     * synchronized 블록 등에서 캐리어 스레드가 임계값 이상 고정되면 경고 로그 출력
+     */
+    private void startPinningMonitor() {
+        try {
+            pinningStream = new RecordingStream();
+            pinningStream.enable(PINNED_EVENT_NAME).withThreshold(pinningThreshold).withStackTrace();
+            pinningStream.onEvent(PINNED_EVENT_NAME, this::onPinnedEvent);
+            pinningStream.startAsync();
+        } catch (Exception e) {
+            log.warn("가상 스레드 pinning 감시 시작 실패 - 감시 없이 계속: {}", e.getMessage());
+            pinningStream = null;
+        }
+    }
+    
+    private void onPinnedEvent(RecordedEvent event) {
+        long count = pinnedCount.incrementAndGet();
+        
+        String topFrame = "unknown";
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            if (!frames.isEmpty()) {
+                RecordedFrame frame = frames.get(0);
+                topFrame = frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber();
+            }
+        }
+        
+        log.warn("가상 스레드 pinning 감지 - 지속시간: {}ms, 위치: {}, 누적: {}",
+                event.getDuration().toMillis(), topFrame, count);
+    }
+    
+    /**
+     * 현재 처리 중인 메시지 수 (재시도 대기 중인 메시지는 제외)
+     */
+    public int getInFlightCount() {
+        return maxConcurrency - concurrencyLimit.availablePermits();
+    }
+    
+    public long getDispatchedCount() {
+        return dispatchedCount.get();
+    }
+    
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+    
+    public long getProcessedCount() {
+        return processedCount.get();
+    }
+    
+    public long getPinnedCount() {
+        return pinnedCount.get();
+    }
+    
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+    
+    /**
+     * 디스패처 종료 - 처리 중인 메시지 완료 대기
+     */
+    public void shutdown() {
+        executor.shutdown();
+        
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("VirtualThreadDispatcher 정상 종료 타임아웃 - 강제 종료");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        
+        if (pinningStream != null) {
+            pinningStream.close();
+        }
+        
+        log.info("VirtualThreadDispatcher 종료 완료 - 처리: {}, 거부: {}, pinning: {}",
+                processedCount.get(), rejectedCount.get(), pinnedCount.get());
+    }
+}
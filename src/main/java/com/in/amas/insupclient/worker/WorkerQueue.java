@@ -1,17 +1,29 @@
 package com.in.amas.insupclient.worker;
 
+import com.in.amas.insupclient.dto.SipsvcMessage;
 import com.in.amas.insupclient.dto.WorkerMessage;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 개별 워커 스레드용 메시지 큐
+ * 소유 워커는 앞(head)에서 꺼내고, 유휴 상태의 다른 워커는 뒤(tail)에서 훔쳐감 (work stealing)
+ * 
+ * 메시지는 우선순위 레인(CONTROL > RESPONSE > REQUEST)으로 나뉘어 저장되며,
+ * 상위 레인이 연속으로 처리되는 동안 REQUEST 레인이 굶지 않도록 주기적으로 양보함
+ * 용량은 레인 전체가 공유하며(worker.queue-capacity = 큐당 전체 메시지 수),
+ * 신규 요청은 제어 메시지와 INSUPC 응답을 위한 예비분을 남긴 만큼까지만 받음
+ * 공정 스케줄링이 활성화되면 REQUEST 레인은 클라이언트별 가중치 Deficit Round-Robin으로 꺼냄
  * 
  * @author InComm
  * @version 1.0.0
@@ -20,20 +32,86 @@ import java.util.concurrent.atomic.AtomicBoolean;
 @Getter
 public class WorkerQueue {
     
+    /**
+     * 기본 starvation 방지 한도 (상위 레인 연속 처리 후 REQUEST 레인 1건 처리)
+     */
+    public static final int DEFAULT_STARVATION_LIMIT = 8;
+    
     private final int queueId;
-    private final BlockingQueue<WorkerMessage> messageQueue;
+    
+    @Getter(AccessLevel.NONE)
+    private final FairLaneQueue[] lanes;
+    
+    // 전체 레인의 메시지 수 - 꺼내기 전에 먼저 획득하여 빈 레인 탐색을 방지
+    @Getter(AccessLevel.NONE)
+    private final Semaphore available = new Semaphore(0);
+    
+    // 전체 레인의 메시지 수 - 넣기 전에 먼저 예약하여 레인 합계가 용량을 넘지 않도록 함
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger occupancy = new AtomicInteger(0);
+    
+    // 큐 전체 용량과 신규 요청(REQUEST 레인)이 사용할 수 있는 용량
+    private final int capacity;
+    private final int requestCapacity;
+    
+    private final int starvationLimit;
+    
+    // 소유 워커 스레드만 접근 - REQUEST 레인이 대기 중일 때 상위 레인을 연속 처리한 횟수
+    @Getter(AccessLevel.NONE)
+    private int consecutivePriorityCount = 0;
+    
     private final AtomicInteger processedCount = new AtomicInteger(0);
+    
+    // 다른 워커가 이 큐에서 훔쳐간 메시지 수
+    private final AtomicLong stolenCount = new AtomicLong(0);
+    
+    // 이 큐의 워커가 다른 큐에서 훔쳐온 메시지 수
+    private final AtomicLong stealCount = new AtomicLong(0);
+    
+    // 공정 스케줄링에서 다른 클라이언트의 요청에 밀려난 메시지 수
+    private final AtomicLong displacedCount = new AtomicLong(0);
     private final AtomicBoolean shutdown = new AtomicBoolean(false);
     
+    // 이 큐의 체류 시간 기반 부하 제어기 (null이면 비활성화, 워커 시작 전에 설정)
+    private AdmissionController admissionController;
+    
+    // 밀려난 메시지 처리 (거절 응답 전송, null이면 로그만 남김)
+    @Getter(AccessLevel.NONE)
+    private Consumer<WorkerMessage> displacedHandler;
+    
     public WorkerQueue(int queueId, int capacity) {
+        this(queueId, capacity, DEFAULT_STARVATION_LIMIT);
+    }
+    
+    public WorkerQueue(int queueId, int capacity, int starvationLimit) {
+        this(queueId, capacity, starvationLimit, false);
+    }
+    
+    /**
+     * @param queueId 큐 ID
+     * @param capacity 큐 전체 용량 (레인 합계)
+     * @param starvationLimit 상위 레인 연속 처리 한도
+     * @param fairQueuing REQUEST 레인의 클라이언트별 공정 스케줄링 여부
+     */
+    public WorkerQueue(int queueId, int capacity, int starvationLimit, boolean fairQueuing) {
         this.queueId = queueId;
-        this.messageQueue = new LinkedBlockingQueue<>(capacity);
+        this.starvationLimit = starvationLimit;
+        this.capacity = capacity;
+        // 용량의 10%(최소 1)는 제어 메시지와 INSUPC 응답용으로 남김 - 신규 요청이 큐를 채워도 진행 중인 작업은 마무리됨
+        this.requestCapacity = capacity > 1 ? capacity - Math.max(1, capacity / 10) : capacity;
+        this.lanes = new FairLaneQueue[Lane.values().length];
+        for (Lane lane : Lane.values()) {
+            lanes[lane.ordinal()] = new FairLaneQueue(fairQueuing && lane == Lane.REQUEST);
+        }
         
-        log.debug("WorkerQueue {} 생성 완료 - 용량: {}", queueId, capacity);
+        log.debug("WorkerQueue {} 생성 완료 - 용량: {}, 신규 요청 용량: {}, starvation 한도: {}, 공정 스케줄링: {}",
+                queueId, capacity, requestCapacity, starvationLimit, fairQueuing);
     }
     
     /**
      * 메시지 큐에 메시지 추가
+     * 공정 스케줄링 중 신규 요청 용량이 가득 차면, 새 요청을 거절하는 대신 가장 많이 쌓인 클라이언트의
+     * 마지막 요청을 밀어내고 넣으며 밀려난 요청은 displacedHandler로 거절 처리함
      * 
      * @param message 추가할 메시지
      * @return 추가 성공 여부
@@ -44,36 +122,241 @@ public class WorkerQueue {
             return false;
         }
         
-        boolean success = messageQueue.offer(message);
+        Lane lane = Lane.of(message);
+        boolean success = reserveSpace(lane == Lane.REQUEST ? requestCapacity : capacity);
+        if (success) {
+            lanes[lane.ordinal()].offerLast(message);
+        } else if (lane == Lane.REQUEST) {
+            WorkerMessage displaced = lanes[lane.ordinal()].offerDisplacing(message);
+            if (displaced != message) {
+                // 메시지 수가 그대로이므로 permit은 변하지 않음
+                handleDisplaced(displaced, message);
+                return true;
+            }
+        }
         
         if (success) {
-            log.debug("WorkerQueue {}에 메시지 추가 - 요청 ID: {}, 현재 큐 크기: {}", 
-                    queueId, message.getRequestId(), messageQueue.size());
+            available.release();
+            log.debug("WorkerQueue {}에 메시지 추가 - 요청 ID: {}, 레인: {}, 현재 큐 크기: {}",
+                    queueId, message.getRequestId(), lane, getQueueSize());
         } else {
-            log.warn("WorkerQueue {} 포화 상태 - 메시지 추가 실패: {}", queueId, message.getRequestId());
+            log.warn("WorkerQueue {} {} 레인 포화 상태 - 메시지 추가 실패: {}",
+                    queueId, lane, message.getRequestId());
         }
         
         return success;
     }
     
+    /**
+     * 밀려난 메시지 거절 처리
+     */
+    private void handleDisplaced(WorkerMessage displaced, WorkerMessage message) {
+        long count = displacedCount.incrementAndGet();
+        log.warn("WorkerQueue {} 신규 요청 용량 포화 - 클라이언트 {}의 요청 {}를 밀어내고 클라이언트 {}의 요청 {} 추가 (누적: {})",
+                queueId, displaced.getClientId(), displaced.getRequestId(),
+                message.getClientId(), message.getRequestId(), count);
+        
+        if (displacedHandler != null) {
+            displacedHandler.accept(displaced);
+        }
+    }
+    
+    /**
+     * 메시지 한 건의 자리 예약
+     * 
+     * @param limit 예약 후 허용되는 최대 메시지 수
+     * @return 예약 성공 여부
+     */
+    private boolean reserveSpace(int limit) {
+        int current;
+        do {
+            current = occupancy.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!occupancy.compareAndSet(current, current + 1));
+        return true;
+    }
+    
     /**
      * 큐에서 메시지 가져오기 (블로킹)
+     * 우선순위가 높은 레인부터 꺼내며, starvation 한도에 도달하면 REQUEST 레인을 먼저 처리
      * 
      * @param timeout 타임아웃 (밀리초)
-     * @return 메시지 (타임아웃 시 null)
+     * @return 메시지 (타임아웃 또는 큐 종료 시 null)
      * @throws InterruptedException 인터럽트 예외
      */
     public WorkerMessage poll(long timeout) throws InterruptedException {
-        WorkerMessage message = messageQueue.poll(timeout, TimeUnit.MILLISECONDS);
+        if (!available.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+            return null;
+        }
         
-        if (message != null) {
-            log.debug("WorkerQueue {}에서 메시지 가져옴 - 요청 ID: {}, 남은 큐 크기: {}", 
-                    queueId, message.getRequestId(), messageQueue.size());
+        WorkerMessage message = takeByPriority();
+        if (message == null) {
+            return null;
+        }
+        
+        log.debug("WorkerQueue {}에서 메시지 가져옴 - 요청 ID: {}, 남은 큐 크기: {}",
+                queueId, message.getRequestId(), getQueueSize());
+        
+        return message;
+    }
+    
+    /**
+     * 대기 없이 꺼낼 수 있는 메시지를 우선순위 순서대로 최대 maxCount개 꺼냄
+     * 
+     * @param target 꺼낸 메시지를 담을 목록
+     * @param maxCount 최대로 꺼낼 메시지 수
+     * @return 꺼낸 메시지 수
+     */
+    public int drainTo(List<WorkerMessage> target, int maxCount) {
+        int count = 0;
+        
+        while (count < maxCount && available.tryAcquire()) {
+            WorkerMessage message = takeByPriority();
+            if (message == null) {
+                break;
+            }
+            target.add(message);
+            count++;
         }
         
+        return count;
+    }
+    
+    /**
+     * 우선순위에 따라 메시지 하나를 꺼내고 자리를 반환 (permit을 이미 획득한 상태에서 호출)
+     * 
+     * @return 메시지 (큐가 종료되어 꺼낼 메시지가 없으면 null)
+     */
+    private WorkerMessage takeByPriority() {
+        WorkerMessage message = pollByPriority();
+        if (message != null) {
+            occupancy.decrementAndGet();
+        }
         return message;
     }
     
+    private WorkerMessage pollByPriority() {
+        FairLaneQueue requestLane = lanes[Lane.REQUEST.ordinal()];
+        
+        while (true) {
+            if (consecutivePriorityCount >= starvationLimit) {
+                WorkerMessage message = requestLane.pollFirst();
+                consecutivePriorityCount = 0;
+                if (message != null) {
+                    return message;
+                }
+            }
+            
+            for (Lane lane : Lane.values()) {
+                WorkerMessage message = lanes[lane.ordinal()].pollFirst();
+                if (message == null) {
+                    continue;
+                }
+                
+                if (lane == Lane.REQUEST || requestLane.isEmpty()) {
+                    consecutivePriorityCount = 0;
+                } else {
+                    consecutivePriorityCount++;
+                }
+                return message;
+            }
+            
+            // 종료 시 레인을 비웠으므로 permit이 남아 있어도 더 이상 메시지가 들어오지 않음
+            if (shutdown.get()) {
+                return null;
+            }
+            
+            // permit을 가진 상태이므로 다른 스레드가 레인 사이를 지나는 중 - 잠시 후 재시도
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * 뒤쪽에서 메시지 하나를 꺼내고 자리를 반환 (permit을 이미 획득한 상태에서 호출)
+     * 새 요청을 먼저 가져가고, 제어 메시지는 가능한 소유 워커에 남겨둠
+     * 
+     * @return 메시지 (큐가 종료되어 꺼낼 메시지가 없으면 null)
+     */
+    private WorkerMessage takeFromTail() {
+        while (true) {
+            for (int i = lanes.length - 1; i >= 0; i--) {
+                WorkerMessage message = lanes[i].pollLast();
+                if (message != null) {
+                    occupancy.decrementAndGet();
+                    return message;
+                }
+            }
+            if (shutdown.get()) {
+                return null;
+            }
+            Thread.onSpinWait();
+        }
+    }
+    
+    /**
+     * 다른 워커가 큐의 뒤쪽에서 메시지를 훔쳐감
+     * 소유 워커와 경합을 줄이기 위해 tail에서 가져오며, 최대 현재 크기의 절반까지만 가져감
+     * 
+     * @param maxCount 최대로 가져갈 메시지 수
+     * @param target 가져온 메시지를 담을 목록 (원래 큐 순서대로 추가됨)
+     * @return 가져온 메시지 수
+     */
+    public int stealBatch(int maxCount, List<WorkerMessage> target) {
+        int stealable = Math.min(maxCount, (getQueueSize() + 1) / 2);
+        int insertIndex = target.size();
+        int stolen = 0;
+        
+        for (int i = 0; i < stealable; i++) {
+            if (!available.tryAcquire()) {
+                break;
+            }
+            WorkerMessage message = takeFromTail();
+            if (message == null) {
+                break;
+            }
+            // tail에서 꺼내므로 앞쪽에 삽입하여 FIFO 순서 유지
+            target.add(insertIndex, message);
+            stolen++;
+        }
+        
+        if (stolen > 0) {
+            stolenCount.addAndGet(stolen);
+            log.debug("WorkerQueue {}에서 메시지 {}개 도난 - 남은 큐 크기: {}",
+                    queueId, stolen, getQueueSize());
+        }
+        
+        return stolen;
+    }
+    
+    /**
+     * 체류 시간 기반 부하 제어기 설정 (워커 스레드 시작 전에 호출)
+     * 
+     * @param admissionController 부하 제어기 (null이면 비활성화)
+     */
+    public void setAdmissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+    
+    /**
+     * 공정 스케줄링에서 밀려난 메시지 처리기 설정 (워커 스레드 시작 전에 호출)
+     * 
+     * @param displacedHandler 밀려난 메시지 처리기 (null이면 로그만 남김)
+     */
+    public void setDisplacedHandler(Consumer<WorkerMessage> displacedHandler) {
+        this.displacedHandler = displacedHandler;
+    }
+    
+    /**
+     * 다른 큐에서 훔쳐온 메시지 수 기록
+     * 
+     * @param count 훔쳐온 메시지 수
+     */
+    public void recordSteal(int count) {
+        stealCount.addAndGet(count);
+    }
+    
     /**
      * 요청 ID로 메시지 검색 (큐에서 제거하지 않음)
      * 
@@ -81,10 +364,13 @@ public class WorkerQueue {
      * @return 검색된 메시지 (없으면 null)
      */
     public WorkerMessage findByRequestId(String requestId) {
-        return messageQueue.stream()
-                .filter(msg -> requestId.equals(msg.getRequestId()))
-                .findFirst()
-                .orElse(null);
+        for (FairLaneQueue lane : lanes) {
+            WorkerMessage msg = lane.find(m -> Objects.equals(requestId, m.getRequestId()));
+            if (msg != null) {
+                return msg;
+            }
+        }
+        return null;
     }
     
     /**
@@ -104,7 +390,30 @@ public class WorkerQueue {
      * @return 큐 크기
      */
     public int getQueueSize() {
-        return messageQueue.size();
+        int size = 0;
+        for (FairLaneQueue lane : lanes) {
+            size += lane.size();
+        }
+        return size;
+    }
+    
+    /**
+     * 레인별 큐 크기 조회
+     * 
+     * @param lane 레인
+     * @return 레인 크기
+     */
+    public int getLaneSize(Lane lane) {
+        return lanes[lane.ordinal()].size();
+    }
+    
+    /**
+     * REQUEST 레인에서 대기 메시지가 있는 클라이언트 흐름 수
+     * 
+     * @return 활성 흐름 수
+     */
+    public int getActiveClientFlows() {
+        return lanes[Lane.REQUEST.ordinal()].getActiveFlowCount();
     }
     
     /**
@@ -113,32 +422,35 @@ public class WorkerQueue {
      * @return 빈 큐 여부
      */
     public boolean isEmpty() {
-        return messageQueue.isEmpty();
+        return getQueueSize() == 0;
     }
     
     /**
-     * 큐가 가득 찼는지 확인
+     * 큐가 가득 찼는지 확인 (신규 요청 기준 - 전체 메시지 수가 신규 요청 용량에 도달)
      * 
      * @return 포화 상태 여부
      */
     public boolean isFull() {
-        return messageQueue.remainingCapacity() == 0;
+        return occupancy.get() >= requestCapacity;
     }
     
     /**
      * 큐 종료
+     * 남은 메시지와 permit을 모두 비워, 대기 중이던 워커가 메시지 없는 permit을 받아 멈추지 않게 함
      */
     public void shutdown() {
         shutdown.set(true);
-        log.info("WorkerQueue {} 종료 - 남은 메시지 수: {}, 처리된 메시지 수: {}", 
-                queueId, messageQueue.size(), processedCount.get());
+        log.info("WorkerQueue {} 종료 - 남은 메시지 수: {}, 처리된 메시지 수: {}",
+                queueId, getQueueSize(), processedCount.get());
         
         // 남은 메시지들을 로그로 출력
-        messageQueue.forEach(message -> 
-                log.warn("WorkerQueue {} 종료 시 미처리 메시지 - 요청 ID: {}, 타입: {}", 
-                        queueId, message.getRequestId(), message.getMessageType()));
-        
-        messageQueue.clear();
+        for (FairLaneQueue lane : lanes) {
+            lane.drainAll(message ->
+                    log.warn("WorkerQueue {} 종료 시 미처리 메시지 - 요청 ID: {}, 타입: {}",
+                            queueId, message.getRequestId(), message.getMessageType()));
+        }
+        available.drainPermits();
+        occupancy.set(0);
     }
     
     /**
@@ -149,4 +461,46 @@ public class WorkerQueue {
     public boolean isShutdown() {
         return shutdown.get();
     }
+    
+    /**
+     * 메시지 우선순위 레인 (선언 순서가 우선순위)
+     */
+    public enum Lane {
+        /**
+         * sipsvc 제어 메시지 (heartbeat, auth) - 지연 시 sipsvc가 연결을 끊음
+         */
+        CONTROL,
+        
+        /**
+         * INSUPC 응답 - 진행 중인 작업을 마무리하고 자원을 반환
+         */
+        RESPONSE,
+        
+        /**
+         * 신규 요청 (execute 등)
+         */
+        REQUEST;
+        
+        /**
+         * 메시지의 레인 결정
+         * 
+         * @param message 워커 메시지
+         * @return 레인
+         */
+        public static Lane of(WorkerMessage message) {
+            if (message.getMessageType() == WorkerMessage.MessageType.INSUPC_RESPONSE) {
+                return RESPONSE;
+            }
+            
+            SipsvcMessage sipsvcMessage = message.getSipsvcMessage();
+            if (sipsvcMessage != null) {
+                String type = sipsvcMessage.getType();
+                if (SipsvcMessage.Type.HEARTBEAT.equals(type) || SipsvcMessage.Type.AUTH.equals(type)) {
+                    return CONTROL;
+                }
+            }
+            
+            return REQUEST;
+        }
+    }
 }
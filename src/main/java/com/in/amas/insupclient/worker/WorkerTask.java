@@ -1,12 +1,20 @@
 package com.in.amas.insupclient.worker;
 
+import com.in.amas.insupclient.dto.InsupcMessage;
 import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.jfr.WorkerDispatchEvent;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import com.in.amas.insupclient.metrics.RequestStageMetrics;
 import com.in.amas.insupclient.service.MessageProcessingService;
+import com.in.amas.insupclient.tcp.WriteBatch;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 워커 스레드에서 실행되는 메시지 처리 작업
  * 
@@ -19,6 +27,25 @@ public class WorkerTask implements Runnable {
     private final WorkerQueue workerQueue;
     private MessageProcessingService messageProcessingService;
     
+    // 클라이언트별 큐 대기 시간 집계 (null이면 집계하지 않음)
+    private ClientWaitStats clientWaitStats;
+    
+    // 단계별 지연 시간 타이머 (큐 대기, 워커 처리)
+    private RequestStageMetrics requestStageMetrics;
+    
+    // 메시지별 처리 로그 정책 (null이면 모두 기록)
+    private HotPathLogPolicy hotPathLogPolicy;
+    
+    // Work stealing 대상 큐 목록 (null이면 stealing 비활성화)
+    private List<WorkerQueue> stealCandidates;
+    private int stealBatchSize;
+    private int stealThreshold;
+    private long idlePollTimeout = 1000;
+    
+    // 한 번 깨어날 때 처리할 최대 메시지 수 (1이면 메시지 단위 처리)
+    private int batchSize = 1;
+    private final List<WorkerMessage> batch = new ArrayList<>();
+    
     public WorkerTask(WorkerQueue workerQueue) {
         this.workerQueue = workerQueue;
     }
@@ -31,17 +58,85 @@ public class WorkerTask implements Runnable {
         this.messageProcessingService = messageProcessingService;
     }
     
+    /**
+     * 클라이언트별 큐 대기 시간 집계 설정
+     * 
+     * @param clientWaitStats 대기 시간 집계 (null이면 집계하지 않음)
+     */
+    public void setClientWaitStats(ClientWaitStats clientWaitStats) {
+        this.clientWaitStats = clientWaitStats;
+    }
+    
+    /**
+     * 단계별 지연 시간 타이머 설정
+     * 
+     * @param requestStageMetrics 단계별 타이머 (null이면 기록하지 않음)
+     */
+    public void setRequestStageMetrics(RequestStageMetrics requestStageMetrics) {
+        this.requestStageMetrics = requestStageMetrics;
+    }
+    
+    /**
+     * 메시지별 처리 로그 정책 설정
+     * 
+     * @param hotPathLogPolicy 로그 정책 (null이면 모두 기록)
+     */
+    public void setHotPathLogPolicy(HotPathLogPolicy hotPathLogPolicy) {
+        this.hotPathLogPolicy = hotPathLogPolicy;
+    }
+    
+    /**
+     * 배치 처리 설정
+     * 큐에서 메시지를 하나 받으면 대기 없이 꺼낼 수 있는 메시지를 최대 batchSize개까지 함께 처리하고,
+     * 배치 동안의 sipsvc 응답은 연결별로 모아 배치 종료 시 한 번만 flush
+     * 
+     * @param batchSize 최대 배치 크기 (1이면 메시지 단위 처리)
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
+    /**
+     * Work stealing 설정
+     * 자신의 큐가 비어 있을 때 가장 많이 밀린 다른 큐의 뒤쪽에서 메시지를 가져옴
+     * 
+     * @param stealCandidates 메시지를 훔쳐올 후보 큐 목록 (자신의 큐 포함 가능)
+     * @param stealBatchSize 한 번에 훔쳐올 최대 메시지 수
+     * @param stealThreshold 훔쳐오기 위한 대상 큐의 최소 크기
+     * @param idlePollTimeout 자신의 큐 대기 시간 (밀리초) - 이 간격마다 stealing 시도
+     */
+    public void setWorkStealing(List<WorkerQueue> stealCandidates, int stealBatchSize, 
+                                int stealThreshold, long idlePollTimeout) {
+        this.stealCandidates = stealCandidates;
+        this.stealBatchSize = stealBatchSize;
+        this.stealThreshold = stealThreshold;
+        this.idlePollTimeout = idlePollTimeout;
+    }
+    
     @Override
     public void run() {
         log.info("WorkerTask {} 시작", workerQueue.getQueueId());
         
         while (!workerQueue.isShutdown() && !Thread.currentThread().isInterrupted()) {
             try {
-                // 큐에서 메시지 대기 (1초 타임아웃)
-                WorkerMessage message = workerQueue.poll(1000);
+                // 큐에서 메시지 대기 (기본 1초, stealing 활성화 시 더 짧은 간격)
+                WorkerMessage message = workerQueue.poll(idlePollTimeout);
                 
                 if (message != null) {
-                    processMessage(message);
+                    if (batchSize > 1) {
+                        processBatch(message);
+                    } else {
+                        processMessage(message, workerQueue);
+                    }
+                } else {
+                    // 자신의 큐가 비어 있음 - 자신의 큐의 과부하 판단에만 반영
+                    AdmissionController admissionController = workerQueue.getAdmissionController();
+                    if (admissionController != null) {
+                        admissionController.onIdle();
+                    }
+                    if (stealCandidates != null) {
+                        stealAndProcess();
+                    }
                 }
                 
             } catch (InterruptedException e) {
@@ -58,15 +153,117 @@ public class WorkerTask implements Runnable {
         log.info("WorkerTask {} 종료", workerQueue.getQueueId());
     }
     
+    /**
+     * 첫 메시지와 함께 큐에 쌓여 있는 메시지를 배치로 처리
+     * 
+     * @param first 큐에서 받은 첫 메시지
+     */
+    private void processBatch(WorkerMessage first) {
+        batch.add(first);
+        workerQueue.drainTo(batch, batchSize - 1);
+        
+        try {
+            processAll(batch, workerQueue);
+        } finally {
+            batch.clear();
+        }
+    }
+    
+    /**
+     * 메시지 목록 처리 - 배치 모드이면 쓰기 배치 안에서 처리
+     * 
+     * @param messages 처리할 메시지 목록
+     * @param source 메시지를 꺼낸 큐 (체류 시간은 이 큐의 부하 제어기에 기록)
+     */
+    private void processAll(List<WorkerMessage> messages, WorkerQueue source) {
+        if (batchSize <= 1) {
+            messages.forEach(message -> processMessage(message, source));
+            return;
+        }
+        
+        log.debug("WorkerQueue {} - 배치 처리: {}건", workerQueue.getQueueId(), messages.size());
+        
+        WriteBatch writeBatch = WriteBatch.begin();
+        try {
+            messages.forEach(message -> processMessage(message, source));
+        } finally {
+            writeBatch.close();
+        }
+    }
+    
+    /**
+     * 가장 많이 밀린 다른 큐에서 메시지를 훔쳐와 처리
+     */
+    private void stealAndProcess() {
+        WorkerQueue victim = null;
+        int maxSize = stealThreshold - 1;
+        
+        for (WorkerQueue candidate : stealCandidates) {
+            if (candidate == workerQueue) {
+                continue;
+            }
+            int size = candidate.getQueueSize();
+            if (size > maxSize) {
+                maxSize = size;
+                victim = candidate;
+            }
+        }
+        
+        if (victim == null) {
+            return;
+        }
+        
+        List<WorkerMessage> stolen = new ArrayList<>(stealBatchSize);
+        int count = victim.stealBatch(stealBatchSize, stolen);
+        
+        if (count == 0) {
+            return;
+        }
+        
+        workerQueue.recordSteal(count);
+        log.debug("WorkerQueue {} - WorkerQueue {}에서 메시지 {}개 가져옴", 
+                workerQueue.getQueueId(), victim.getQueueId(), count);
+        
+        processAll(stolen, victim);
+    }
+    
     /**
      * 메시지 처리
      * 
      * @param message 처리할 메시지
+     * @param source 메시지를 꺼낸 큐 (훔쳐온 메시지는 원래 큐)
      */
-    private void processMessage(WorkerMessage message) {
+    private void processMessage(WorkerMessage message, WorkerQueue source) {
+        WorkerDispatchEvent event = new WorkerDispatchEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        long waitNanos = 0;
+        if (message.getEnqueueTimeNanos() > 0) {
+            waitNanos = startNanos - message.getEnqueueTimeNanos();
+            if (clientWaitStats != null && message.getClientId() != null) {
+                clientWaitStats.record(message.getClientId(), waitNanos);
+            }
+            if (requestStageMetrics != null) {
+                requestStageMetrics.record(RequestStageMetrics.Stage.QUEUE_WAIT, waitNanos);
+            }
+        }
+        
+        // 과부하 상태에서 너무 오래 기다린 요청은 처리하지 않고 즉시 거절 응답
+        AdmissionController admissionController = source.getAdmissionController();
+        if (admissionController != null && admissionController.onDequeue(message)) {
+            if (messageProcessingService != null) {
+                messageProcessingService.rejectOverloaded(message);
+            }
+            return;
+        }
+        
         try {
-            log.info("WorkerQueue {} - 메시지 처리 시작: 요청 ID: {}, 타입: {}", 
-                    workerQueue.getQueueId(), message.getRequestId(), message.getMessageType());
+            boolean logMessage = log.isInfoEnabled() && (hotPathLogPolicy == null 
+                    || hotPathLogPolicy.shouldLog(HotPathLogPolicy.Category.WORKER, message.isTraced()));
+            if (logMessage) {
+                log.info("WorkerQueue {} - 메시지 처리 시작: 요청 ID: {}, 타입: {}", 
+                        workerQueue.getQueueId(), message.getRequestId(), message.getMessageType());
+            }
             
             // 처리 시작 시간 설정
             message.setProcessingStartTime(System.currentTimeMillis());
@@ -76,11 +273,11 @@ public class WorkerTask implements Runnable {
                 case SIPSVC_REQUEST:
                     processSipsvcRequest(message);
                     break;
-                    
+                
                 case INSUPC_RESPONSE:
                     processInsupcResponse(message);
                     break;
-                    
+                
                 default:
                     log.warn("WorkerQueue {} - 알 수 없는 메시지 타입: {}", 
                             workerQueue.getQueueId(), message.getMessageType());
@@ -88,21 +285,33 @@ public class WorkerTask implements Runnable {
             
             // 처리 완료 카운트 증가
             workerQueue.incrementProcessedCount();
+            recordProcessTime(startNanos);
+            event.complete(message, workerQueue.getQueueId(), waitNanos);
             
-            log.info("WorkerQueue {} - 메시지 처리 완료: 요청 ID: {}, 처리 시간: {}ms", 
-                    workerQueue.getQueueId(), 
-                    message.getRequestId(),
-                    System.currentTimeMillis() - message.getProcessingStartTime());
+            if (logMessage) {
+                log.info("WorkerQueue {} - 메시지 처리 완료: 요청 ID: {}, 처리 시간: {}ms", 
+                        workerQueue.getQueueId(), 
+                        message.getRequestId(),
+                        System.currentTimeMillis() - message.getProcessingStartTime());
+            }
             
         } catch (Exception e) {
             log.error("WorkerQueue {} - 메시지 처리 실패: 요청 ID: {}, 오류: {}", 
                     workerQueue.getQueueId(), message.getRequestId(), e.getMessage(), e);
+            recordProcessTime(startNanos);
+            event.complete(message, workerQueue.getQueueId(), waitNanos);
             
             // 재시도 로직
             handleRetry(message, e);
         }
     }
     
+    private void recordProcessTime(long startNanos) {
+        if (requestStageMetrics != null) {
+            requestStageMetrics.record(RequestStageMetrics.Stage.WORKER_PROCESS, System.nanoTime() - startNanos);
+        }
+    }
+    
     /**
      * sipsvc 요청 메시지 처리
      * 
@@ -125,8 +334,9 @@ public class WorkerTask implements Runnable {
      * @param message INSUPC 응답 메시지
      */
     private void processInsupcResponse(WorkerMessage message) {
+        InsupcMessage insupcMessage = message.getInsupcMessage();
         log.debug("WorkerQueue {} - INSUPC 응답 처리: 코드 {}", 
-                workerQueue.getQueueId(), message.getInsupcMessage().getCode());
+                workerQueue.getQueueId(), insupcMessage != null ? insupcMessage.getMsgCode() : null);
         
         if (messageProcessingService != null) {
             messageProcessingService.processInsupcResponse(message);
@@ -151,12 +361,16 @@ public class WorkerTask implements Runnable {
                     workerQueue.getQueueId(), message.getRequestId(), 
                     message.getRetryCount(), maxRetryCount);
             
+            // 재시도 대기 동안 배치에 쌓인 응답이 지연되지 않도록 먼저 전송
+            WriteBatch.flushCurrent();
+            
             // 재시도 지연 시간 (지수 백오프)
             try {
                 long delayMs = 1000L * message.getRetryCount();
                 Thread.sleep(delayMs);
                 
-                // 큐에 다시 추가
+                // 큐에 다시 추가 (재시도 대기 시간은 큐 체류 시간에서 제외)
+                message.setEnqueueTimeNanos(System.nanoTime());
                 if (!workerQueue.offer(message)) {
                     log.error("WorkerQueue {} - 재시도 메시지 큐 추가 실패: {}", 
                             workerQueue.getQueueId(), message.getRequestId());
@@ -1,6 +1,8 @@
 package com.in.amas.insupclient.worker;
 
 import com.in.amas.insupclient.dto.WorkerMessage;
+import com.in.amas.insupclient.logging.HotPathLogPolicy;
+import com.in.amas.insupclient.metrics.RequestStageMetrics;
 import com.in.amas.insupclient.service.MessageProcessingService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +10,8 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -35,14 +39,68 @@ public class WorkerThreadPool {
     @Value("${worker.thread-name-prefix:worker-}")
     private String threadNamePrefix;
     
+    @Value("${worker.execution-mode:QUEUED}")
+    private ExecutionMode executionMode;
+    
+    @Value("${worker.virtual-thread.max-concurrency:10000}")
+    private int virtualThreadMaxConcurrency;
+    
+    @Value("${worker.virtual-thread.pinning-threshold-ms:20}")
+    private long virtualThreadPinningThresholdMs;
+    
+    @Value("${worker.routing-mode:ROUND_ROBIN}")
+    private RoutingMode routingMode;
+    
+    @Value("${worker.spill-queue-capacity:1000}")
+    private int spillQueueCapacity;
+    
+    @Value("${worker.work-stealing.enabled:false}")
+    private boolean workStealingEnabled;
+    
+    @Value("${worker.work-stealing.batch-size:16}")
+    private int stealBatchSize;
+    
+    @Value("${worker.work-stealing.threshold:2}")
+    private int stealThreshold;
+    
+    @Value("${worker.work-stealing.poll-interval-ms:10}")
+    private long stealPollIntervalMs;
+    
+    @Value("${worker.priority.starvation-limit:8}")
+    private int starvationLimit;
+    
+    @Value("${worker.fair-queuing.enabled:false}")
+    private boolean fairQueuingEnabled;
+    
+    @Value("${worker.batch-size:1}")
+    private int batchSize;
+    
+    @Value("${worker.admission.enabled:false}")
+    private boolean admissionEnabled;
+    
+    @Value("${worker.admission.target-ms:5}")
+    private long admissionTargetMs;
+    
+    @Value("${worker.admission.interval-ms:100}")
+    private long admissionIntervalMs;
+    
     private final MessageProcessingService messageProcessingService;
+    private final RequestStageMetrics requestStageMetrics;
+    private final HotPathLogPolicy hotPathLogPolicy;
     
     private List<WorkerQueue> workerQueues;
+    private WorkerQueue spillQueue;
     private ThreadPoolExecutor executorService;
+    private VirtualThreadDispatcher virtualThreadDispatcher;
+    private final ClientWaitStats clientWaitStats = new ClientWaitStats();
     private final AtomicInteger roundRobinCounter = new AtomicInteger(0);
     
-    public WorkerThreadPool(MessageProcessingService messageProcessingService) {
+    public WorkerThreadPool(MessageProcessingService messageProcessingService, 
+                            RequestStageMetrics requestStageMetrics,
+                            HotPathLogPolicy hotPathLogPolicy) {
         this.messageProcessingService = messageProcessingService;
+        this.requestStageMetrics = requestStageMetrics;
+        this.hotPathLogPolicy = hotPathLogPolicy;
     }
     
     /**
@@ -50,7 +108,27 @@ public class WorkerThreadPool {
      */
     @PostConstruct
     public void initialize() {
-        log.info("WorkerThreadPool 초기화 시작 - 스레드 수: {}, 큐 용량: {}", threadPoolSize, queueCapacity);
+        if (executionMode == ExecutionMode.VIRTUAL_THREAD) {
+            initializeVirtualThreadMode();
+            return;
+        }
+        
+        log.info("WorkerThreadPool 초기화 시작 - 스레드 수: {}, 큐 용량: {}, 라우팅: {}, 공정 스케줄링: {}", 
+                threadPoolSize, queueCapacity, routingMode, fairQueuingEnabled);
+        
+        // Affinity 모드에서는 spill 큐 전용 워커 스레드 1개 추가
+        int totalThreads = isAffinityRouting() ? threadPoolSize + 1 : threadPoolSize;
+        
+        // Work stealing은 연결/요청별 처리 순서를 깨뜨리므로 Affinity 모드에서는 사용하지 않음
+        if (workStealingEnabled && isAffinityRouting()) {
+            log.warn("Affinity 라우팅 모드에서는 work stealing을 사용할 수 없음 - 비활성화");
+            workStealingEnabled = false;
+        }
+        
+        if (admissionEnabled) {
+            log.info("큐 체류 시간 기반 부하 제어 활성화 (큐별) - 목표: {}ms, 간격: {}ms", 
+                    admissionTargetMs, admissionIntervalMs);
+        }
         
         // 커스텀 ThreadFactory 생성
         ThreadFactory threadFactory = new ThreadFactory() {
@@ -67,8 +145,8 @@ public class WorkerThreadPool {
         
         // ThreadPoolExecutor 생성
         executorService = new ThreadPoolExecutor(
-                threadPoolSize,
-                threadPoolSize,
+                totalThreads,
+                totalThreads,
                 keepAliveTime,
                 TimeUnit.SECONDS,
                 new LinkedBlockingQueue<>(),
@@ -79,55 +157,92 @@ public class WorkerThreadPool {
         // WorkerQueue들 초기화
         workerQueues = new CopyOnWriteArrayList<>();
         for (int i = 0; i < threadPoolSize; i++) {
-            WorkerQueue workerQueue = new WorkerQueue(i, queueCapacity);
+            WorkerQueue workerQueue = new WorkerQueue(i, queueCapacity, starvationLimit, fairQueuingEnabled);
+            workerQueue.setAdmissionController(newAdmissionController(i));
+            workerQueue.setDisplacedHandler(messageProcessingService::rejectOverloaded);
             workerQueues.add(workerQueue);
-            
-            // 각 큐에 대한 워커 스레드 시작
+        }
+        
+        // 각 큐에 대한 워커 스레드 시작
+        for (WorkerQueue workerQueue : workerQueues) {
             WorkerTask workerTask = new WorkerTask(workerQueue);
             workerTask.setMessageProcessingService(messageProcessingService);
+            workerTask.setClientWaitStats(clientWaitStats);
+            workerTask.setRequestStageMetrics(requestStageMetrics);
+            workerTask.setHotPathLogPolicy(hotPathLogPolicy);
+            workerTask.setBatchSize(batchSize);
+            if (workStealingEnabled) {
+                workerTask.setWorkStealing(workerQueues, stealBatchSize, stealThreshold, stealPollIntervalMs);
+            }
             executorService.submit(workerTask);
         }
         
-        log.info("WorkerThreadPool 초기화 완료 - {} 개 워커 스레드 시작됨", threadPoolSize);
+        // Affinity 모드의 포화 메시지를 받는 spill 큐
+        if (isAffinityRouting()) {
+            spillQueue = new WorkerQueue(threadPoolSize, spillQueueCapacity, starvationLimit, fairQueuingEnabled);
+            spillQueue.setAdmissionController(newAdmissionController(threadPoolSize));
+            spillQueue.setDisplacedHandler(messageProcessingService::rejectOverloaded);
+            
+            WorkerTask spillTask = new WorkerTask(spillQueue);
+            spillTask.setMessageProcessingService(messageProcessingService);
+            spillTask.setClientWaitStats(clientWaitStats);
+            spillTask.setRequestStageMetrics(requestStageMetrics);
+            spillTask.setHotPathLogPolicy(hotPathLogPolicy);
+            spillTask.setBatchSize(batchSize);
+            executorService.submit(spillTask);
+        }
+        
+        log.info("WorkerThreadPool 초기화 완료 - {} 개 워커 스레드 시작됨", totalThreads);
+    }
+    
+    /**
+     * 워커 큐 하나의 체류 시간 기반 부하 제어기 생성 (비활성화 상태이면 null)
+     */
+    private AdmissionController newAdmissionController(int queueId) {
+        return admissionEnabled ? new AdmissionController(queueId, admissionTargetMs, admissionIntervalMs) : null;
+    }
+    
+    /**
+     * 가상 스레드 실행 모드 초기화
+     * 워커 큐와 플랫폼 스레드 풀 없이 메시지마다 가상 스레드에서 처리
+     */
+    private void initializeVirtualThreadMode() {
+        log.info("WorkerThreadPool 초기화 시작 - 가상 스레드 모드, 최대 동시 처리 수: {}", 
+                virtualThreadMaxConcurrency);
+        
+        workerQueues = new CopyOnWriteArrayList<>();
+        virtualThreadDispatcher = new VirtualThreadDispatcher(
+                messageProcessingService,
+                virtualThreadMaxConcurrency,
+                threadNamePrefix,
+                Duration.ofMillis(virtualThreadPinningThresholdMs));
+        virtualThreadDispatcher.setRequestStageMetrics(requestStageMetrics);
+        virtualThreadDispatcher.start();
+        
+        log.info("WorkerThreadPool 초기화 완료 - 가상 스레드 모드");
     }
     
     /**
      * 메시지를 워커 큐에 분배
-     * Round-Robin 방식으로 부하 분산
+     * 라우팅 모드에 따라 Round-Robin 또는 Affinity 방식으로 큐 선택
+     * 큐 체류 시간 기반 부하 제어가 활성화된 경우 선택된 큐가 과부하 상태이면 신규 execute 요청은 거절
      * 
      * @param message 처리할 메시지
-     * @return 큐 추가 성공 여부
+     * @return 큐 추가 성공 여부 (큐 포화 또는 과부하로 거절된 경우 false)
      */
     public boolean submitMessage(WorkerMessage message) {
         try {
-            // Round-Robin으로 워커 큐 선택
-            int queueIndex = roundRobinCounter.getAndIncrement() % threadPoolSize;
-            WorkerQueue selectedQueue = workerQueues.get(queueIndex);
+            message.setEnqueueTimeNanos(System.nanoTime());
             
-            boolean success = selectedQueue.offer(message);
+            if (virtualThreadDispatcher != null) {
+                return virtualThreadDispatcher.dispatch(message);
+            }
             
-            if (success) {
-                log.debug("메시지를 워커 큐 {}에 추가 - 요청 ID: {}, 타입: {}", 
-                        queueIndex, message.getRequestId(), message.getMessageType());
-            } else {
-                log.warn("워커 큐 {} 포화 상태 - 메시지 추가 실패: {}", queueIndex, message.getRequestId());
-                
-                // 다른 큐에 시도
-                for (int i = 0; i < threadPoolSize; i++) {
-                    int alternativeIndex = (queueIndex + i + 1) % threadPoolSize;
-                    WorkerQueue alternativeQueue = workerQueues.get(alternativeIndex);
-                    
-                    if (alternativeQueue.offer(message)) {
-                        log.info("메시지를 대체 워커 큐 {}에 추가 - 요청 ID: {}", 
-                                alternativeIndex, message.getRequestId());
-                        return true;
-                    }
-                }
-                
-                log.error("모든 워커 큐가 포화 상태 - 메시지 처리 실패: {}", message.getRequestId());
+            if (isAffinityRouting()) {
+                return submitByAffinity(message);
             }
             
-            return success;
+            return submitByRoundRobin(message);
             
         } catch (Exception e) {
             log.error("워커 큐에 메시지 추가 중 오류: {}", e.getMessage(), e);
@@ -135,6 +250,111 @@ public class WorkerThreadPool {
         }
     }
     
+    /**
+     * Round-Robin 방식으로 메시지 분배
+     * 선택된 큐가 포화 상태이면 다른 큐에 순차적으로 시도
+     */
+    private boolean submitByRoundRobin(WorkerMessage message) {
+        int queueIndex = Math.floorMod(roundRobinCounter.getAndIncrement(), threadPoolSize);
+        WorkerQueue selectedQueue = workerQueues.get(queueIndex);
+        
+        if (!admit(selectedQueue, message)) {
+            return false;
+        }
+        
+        boolean success = selectedQueue.offer(message);
+        
+        if (success) {
+            log.debug("메시지를 워커 큐 {}에 추가 - 요청 ID: {}, 타입: {}", 
+                    queueIndex, message.getRequestId(), message.getMessageType());
+        } else {
+            log.warn("워커 큐 {} 포화 상태 - 메시지 추가 실패: {}", queueIndex, message.getRequestId());
+            
+            // 다른 큐에 시도
+            for (int i = 0; i < threadPoolSize; i++) {
+                int alternativeIndex = (queueIndex + i + 1) % threadPoolSize;
+                WorkerQueue alternativeQueue = workerQueues.get(alternativeIndex);
+                
+                // 대체 큐가 과부하 상태이면 다른 큐로 넘기지 않고 거절
+                if (!admit(alternativeQueue, message)) {
+                    return false;
+                }
+                
+                if (alternativeQueue.offer(message)) {
+                    log.info("메시지를 대체 워커 큐 {}에 추가 - 요청 ID: {}", 
+                            alternativeIndex, message.getRequestId());
+                    return true;
+                }
+            }
+            
+            log.error("모든 워커 큐가 포화 상태 - 메시지 처리 실패: {}", message.getRequestId());
+        }
+        
+        return success;
+    }
+    
+    /**
+     * Affinity 방식으로 메시지 분배
+     * 같은 키(연결 ID 또는 요청 ID)는 항상 같은 큐로 라우팅되어 처리 순서가 보장됨
+     * 해당 큐가 포화 상태이면 spill 큐로 넘김
+     */
+    private boolean submitByAffinity(WorkerMessage message) {
+        String affinityKey = resolveAffinityKey(message);
+        
+        if (affinityKey == null) {
+            return submitByRoundRobin(message);
+        }
+        
+        int queueIndex = Math.floorMod(affinityKey.hashCode(), threadPoolSize);
+        WorkerQueue selectedQueue = workerQueues.get(queueIndex);
+        
+        if (!admit(selectedQueue, message)) {
+            return false;
+        }
+        
+        if (selectedQueue.offer(message)) {
+            log.debug("메시지를 워커 큐 {}에 추가 (affinity) - 키: {}, 요청 ID: {}", 
+                    queueIndex, affinityKey, message.getRequestId());
+            return true;
+        }
+        
+        if (!admit(spillQueue, message)) {
+            return false;
+        }
+        
+        if (spillQueue.offer(message)) {
+            log.warn("워커 큐 {} 포화 상태 - spill 큐로 전환: 요청 ID: {}", queueIndex, message.getRequestId());
+            return true;
+        }
+        
+        log.error("워커 큐 {} 및 spill 큐 포화 상태 - 메시지 처리 실패: {}", queueIndex, message.getRequestId());
+        return false;
+    }
+    
+    /**
+     * 메시지를 넣으려는 큐의 부하 제어기로 수락 여부 판단 (부하 제어 비활성화 시 항상 수락)
+     * 대체 큐나 spill 큐로 넘길 때도 해당 큐 기준으로 다시 판단하여, 과부하 상태의 요청이 다른 큐로 새지 않게 함
+     */
+    private boolean admit(WorkerQueue queue, WorkerMessage message) {
+        AdmissionController admissionController = queue.getAdmissionController();
+        return admissionController == null || admissionController.admit(message, queue.isEmpty());
+    }
+    
+    /**
+     * 라우팅 모드에 따른 Affinity 키 결정
+     * INSUPC 응답에는 연결 ID가 없으므로 CONNECTION_AFFINITY 모드에서도 요청 ID를 사용
+     */
+    private String resolveAffinityKey(WorkerMessage message) {
+        if (routingMode == RoutingMode.CONNECTION_AFFINITY && message.getConnectionId() != null) {
+            return message.getConnectionId();
+        }
+        return message.getRequestId();
+    }
+    
+    private boolean isAffinityRouting() {
+        return routingMode == RoutingMode.CONNECTION_AFFINITY || routingMode == RoutingMode.REQUEST_AFFINITY;
+    }
+    
     /**
      * 특정 요청 ID로 큐에서 메시지 검색
      * 
@@ -148,7 +368,7 @@ public class WorkerThreadPool {
                 return message;
             }
         }
-        return null;
+        return spillQueue != null ? spillQueue.findByRequestId(requestId) : null;
     }
     
     /**
@@ -157,12 +377,39 @@ public class WorkerThreadPool {
      * @return 상태 정보
      */
     public WorkerPoolStatus getStatus() {
+        if (virtualThreadDispatcher != null) {
+            return WorkerPoolStatus.builder()
+                    .threadPoolSize(0)
+                    .activeThreads(virtualThreadDispatcher.getInFlightCount())
+                    .totalProcessedCount((int) virtualThreadDispatcher.getProcessedCount())
+                    .isShutdown(virtualThreadDispatcher.isShutdown())
+                    .build();
+        }
+        
         int totalQueueSize = 0;
         int totalProcessedCount = 0;
+        long totalStealCount = 0;
+        boolean overloaded = false;
+        long shedCount = 0;
+        long droppedCount = 0;
+        List<QueueStatus> queueStatuses = new ArrayList<>(workerQueues.size() + 1);
+        List<WorkerQueue> allQueues = new ArrayList<>(workerQueues);
+        if (spillQueue != null) {
+            allQueues.add(spillQueue);
+        }
         
-        for (WorkerQueue queue : workerQueues) {
+        for (WorkerQueue queue : allQueues) {
             totalQueueSize += queue.getQueueSize();
-            totalProcessedCount += queue.getProcessedCount();
+            totalProcessedCount += queue.getProcessedCount().get();
+            totalStealCount += queue.getStealCount().get();
+            queueStatuses.add(QueueStatus.of(queue));
+            
+            AdmissionController admissionController = queue.getAdmissionController();
+            if (admissionController != null) {
+                overloaded |= admissionController.isOverloaded();
+                shedCount += admissionController.getShedCount();
+                droppedCount += admissionController.getDroppedCount();
+            }
         }
         
         return WorkerPoolStatus.builder()
@@ -170,6 +417,11 @@ public class WorkerThreadPool {
                 .activeThreads(executorService.getActiveCount())
                 .totalQueueSize(totalQueueSize)
                 .totalProcessedCount(totalProcessedCount)
+                .totalStealCount(totalStealCount)
+                .queues(queueStatuses)
+                .overloaded(overloaded)
+                .shedCount(shedCount)
+                .droppedCount(droppedCount)
                 .isShutdown(executorService.isShutdown())
                 .build();
     }
@@ -181,10 +433,19 @@ public class WorkerThreadPool {
     public void shutdown() {
         log.info("WorkerThreadPool 종료 시작");
         
+        if (virtualThreadDispatcher != null) {
+            virtualThreadDispatcher.shutdown();
+            log.info("WorkerThreadPool 종료 완료");
+            return;
+        }
+        
         // 모든 워커 큐 종료
         for (WorkerQueue queue : workerQueues) {
             queue.shutdown();
         }
+        if (spillQueue != null) {
+            spillQueue.shutdown();
+        }
         
         // ThreadPoolExecutor 종료
         executorService.shutdown();
@@ -207,6 +468,59 @@ public class WorkerThreadPool {
         log.info("WorkerThreadPool 종료 완료");
     }
     
+    /**
+     * 가상 스레드 디스패처 조회 (가상 스레드 모드가 아니면 null)
+     * 
+     * @return 가상 스레드 디스패처
+     */
+    public VirtualThreadDispatcher getVirtualThreadDispatcher() {
+        return virtualThreadDispatcher;
+    }
+    
+    /**
+     * 클라이언트별 워커 큐 대기 시간 집계 조회
+     * 
+     * @return 대기 시간 집계
+     */
+    public ClientWaitStats getClientWaitStats() {
+        return clientWaitStats;
+    }
+    
+    /**
+     * 메시지 실행 모드
+     */
+    public enum ExecutionMode {
+        /**
+         * 고정 크기 플랫폼 스레드 + 스레드별 WorkerQueue (기본값)
+         */
+        QUEUED,
+        
+        /**
+         * 메시지마다 가상 스레드에서 처리, 세마포어로 동시 처리 수 제한
+         */
+        VIRTUAL_THREAD
+    }
+    
+    /**
+     * 워커 큐 라우팅 모드
+     */
+    public enum RoutingMode {
+        /**
+         * 전역 Round-Robin 분배 (기본값)
+         */
+        ROUND_ROBIN,
+        
+        /**
+         * 연결 ID 해시 기반 분배 - 같은 sipsvc 연결의 요청은 같은 워커에서 순서대로 처리
+         */
+        CONNECTION_AFFINITY,
+        
+        /**
+         * 요청 ID 해시 기반 분배 - 요청과 대응하는 INSUPC 응답이 같은 워커에서 처리
+         */
+        REQUEST_AFFINITY
+    }
+    
     /**
      * 워커 스레드 풀 상태 DTO
      */
@@ -215,6 +529,11 @@ public class WorkerThreadPool {
         public final long activeThreads;
         public final int totalQueueSize;
         public final int totalProcessedCount;
+        public final long totalStealCount;
+        public final List<QueueStatus> queues;
+        public final boolean overloaded;
+        public final long shedCount;
+        public final long droppedCount;
         public final boolean isShutdown;
         
         private WorkerPoolStatus(Builder builder) {
@@ -222,6 +541,11 @@ public class WorkerThreadPool {
             this.activeThreads = builder.activeThreads;
             this.totalQueueSize = builder.totalQueueSize;
             this.totalProcessedCount = builder.totalProcessedCount;
+            this.totalStealCount = builder.totalStealCount;
+            this.queues = builder.queues;
+            this.overloaded = builder.overloaded;
+            this.shedCount = builder.shedCount;
+            this.droppedCount = builder.droppedCount;
             this.isShutdown = builder.isShutdown;
         }
         
@@ -234,6 +558,11 @@ public class WorkerThreadPool {
             private long activeThreads;
             private int totalQueueSize;
             private int totalProcessedCount;
+            private long totalStealCount;
+            private List<QueueStatus> queues = List.of();
+            private boolean overloaded;
+            private long shedCount;
+            private long droppedCount;
             private boolean isShutdown;
             
             public Builder threadPoolSize(int threadPoolSize) {
@@ -256,6 +585,31 @@ public class WorkerThreadPool {
                 return this;
             }
             
+            public Builder totalStealCount(long totalStealCount) {
+                this.totalStealCount = totalStealCount;
+                return this;
+            }
+            
+            public Builder queues(List<QueueStatus> queues) {
+                this.queues = queues;
+                return this;
+            }
+            
+            public Builder overloaded(boolean overloaded) {
+                this.overloaded = overloaded;
+                return this;
+            }
+            
+            public Builder shedCount(long shedCount) {
+                this.shedCount = shedCount;
+                return this;
+            }
+            
+            public Builder droppedCount(long droppedCount) {
+                this.droppedCount = droppedCount;
+                return this;
+            }
+            
             public Builder isShutdown(boolean isShutdown) {
                 this.isShutdown = isShutdown;
                 return this;
@@ -266,4 +620,51 @@ public class WorkerThreadPool {
             }
         }
     }
+    
+    /**
+     * 개별 워커 큐 상태 DTO
+     */
+    public static class QueueStatus {
+        public final int queueId;
+        public final int depth;
+        public final int controlDepth;
+        public final int responseDepth;
+        public final int requestDepth;
+        public final int activeClientFlows;
+        public final long displacedCount;
+        public final boolean overloaded;
+        public final int processedCount;
+        public final long stealCount;
+        public final long stolenCount;
+        
+        private QueueStatus(int queueId, int controlDepth, int responseDepth, int requestDepth,
+                            int activeClientFlows, long displacedCount, boolean overloaded, int processedCount, 
+                            long stealCount, long stolenCount) {
+            this.queueId = queueId;
+            this.depth = controlDepth + responseDepth + requestDepth;
+            this.controlDepth = controlDepth;
+            this.responseDepth = responseDepth;
+            this.requestDepth = requestDepth;
+            this.activeClientFlows = activeClientFlows;
+            this.displacedCount = displacedCount;
+            this.overloaded = overloaded;
+            this.processedCount = processedCount;
+            this.stealCount = stealCount;
+            this.stolenCount = stolenCount;
+        }
+        
+        static QueueStatus of(WorkerQueue queue) {
+            return new QueueStatus(
+                    queue.getQueueId(),
+                    queue.getLaneSize(WorkerQueue.Lane.CONTROL),
+                    queue.getLaneSize(WorkerQueue.Lane.RESPONSE),
+                    queue.getLaneSize(WorkerQueue.Lane.REQUEST),
+                    queue.getActiveClientFlows(),
+                    queue.getDisplacedCount().get(),
+                    queue.getAdmissionController() != null && queue.getAdmissionController().isOverloaded(),
+                    queue.getProcessedCount().get(),
+                    queue.getStealCount().get(),
+                    queue.getStolenCount().get());
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package com.in.amas.insupclient.tcp;
+
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WireCaptureRing 되감기(head/tail/dataEnd)와 pcap 덤프 테스트
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+class WireCaptureRingTest {
+    
+    // 헤더 40바이트 + 데이터 16바이트 = 레코드 56바이트
+    private static final int SNAP_LENGTH = 16;
+    private static final int RECORD_SIZE = 56;
+    
+    @Test
+    @DisplayName("공간이 남아 있으면 기록한 순서대로 모두 덤프")
+    void dumpsAllRecordsWithoutWrap() throws IOException {
+        WireCaptureRing ring = new WireCaptureRing(RECORD_SIZE * 3 + 20, SNAP_LENGTH);
+        for (int i = 0; i < 3; i++) {
+            record(ring, i);
+        }
+        
+        assertThat(ring.getRecordCount()).isEqualTo(3);
+        assertThat(ring.getOverwrittenCount()).isZero();
+        assertThat(dump(ring)).containsExactly(payload(0), payload(1), payload(2));
+    }
+    
+    @Test
+    @DisplayName("링 끝에서 되감으면 가장 오래된 레코드를 덮어쓰고 링 끝쪽 레코드부터 덤프")
+    void wrapsAndDumpsUpperRegionFirst() throws IOException {
+        WireCaptureRing ring = new WireCaptureRing(RECORD_SIZE * 3 + 20, SNAP_LENGTH);
+        for (int i = 0; i < 4; i++) {
+            record(ring, i);
+        }
+        
+        // 레코드 3은 링 처음에 기록되고, 레코드 1, 2는 링 끝쪽(dataEnd 이전)에 남아 있음
+        assertThat(ring.getRecordCount()).isEqualTo(3);
+        assertThat(ring.getOverwrittenCount()).isEqualTo(1);
+        assertThat(dump(ring)).containsExactly(payload(1), payload(2), payload(3));
+    }
+    
+    @Test
+    @DisplayName("head가 dataEnd에 닿으면 링 처음으로 돌아감")
+    void headReturnsToStartAtDataEnd() throws IOException {
+        WireCaptureRing ring = new WireCaptureRing(RECORD_SIZE * 3 + 20, SNAP_LENGTH);
+        for (int i = 0; i < 6; i++) {
+            record(ring, i);
+        }
+        
+        assertThat(ring.getRecordCount()).isEqualTo(3);
+        assertThat(ring.getOverwrittenCount()).isEqualTo(3);
+        assertThat(ring.getCapturedCount()).isEqualTo(6);
+        assertThat(dump(ring)).containsExactly(payload(3), payload(4), payload(5));
+        
+        // 두 번째 되감기
+        record(ring, 6);
+        assertThat(dump(ring)).containsExactly(payload(4), payload(5), payload(6));
+    }
+    
+    @Test
+    @DisplayName("snapLength를 넘는 데이터는 잘라서 저장하고 원래 길이는 유지")
+    void truncatesToSnapLength() throws IOException {
+        WireCaptureRing ring = new WireCaptureRing(1024, 4);
+        ring.record(Unpooled.wrappedBuffer("0123456789".getBytes(StandardCharsets.US_ASCII)), 0, 0, 1, 2, 0, 0);
+        
+        ByteBuffer pcap = ByteBuffer.wrap(dumpBytes(ring));
+        assertThat(pcap.getInt(24 + 8)).isEqualTo(40 + 4);
+        assertThat(pcap.getInt(24 + 12)).isEqualTo(40 + 10);
+        assertThat(parsePayloads(pcap.array())).containsExactly("0123");
+    }
+    
+    @Test
+    @DisplayName("여러 조각으로 나누어 복사해도 남아 있는 레코드를 모두 순서대로 덤프")
+    void dumpsAcrossCopyChunks() throws IOException {
+        WireCaptureRing ring = new WireCaptureRing(1024 * 1024, SNAP_LENGTH);
+        int total = 30000;
+        for (int i = 0; i < total; i++) {
+            record(ring, i);
+        }
+        
+        int live = ring.getRecordCount();
+        assertThat(ring.getOverwrittenCount()).isEqualTo(total - live);
+        
+        List<String> payloads = dump(ring);
+        assertThat(payloads).hasSize(live);
+        for (int i = 0; i < live; i++) {
+            assertThat(payloads.get(i)).isEqualTo(payload(total - live + i));
+        }
+    }
+    
+    private static void record(WireCaptureRing ring, int index) {
+        ring.record(Unpooled.wrappedBuffer(payload(index).getBytes(StandardCharsets.US_ASCII)),
+                0x7F000001, 0x7F000001, 5000, 6000, index, 0);
+    }
+    
+    private static String payload(int index) {
+        return String.format("rec-%012d", index);
+    }
+    
+    private static List<String> dump(WireCaptureRing ring) throws IOException {
+        return parsePayloads(dumpBytes(ring));
+    }
+    
+    private static byte[] dumpBytes(WireCaptureRing ring) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ring.writePcap(out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * pcap 패킷의 데이터 부분 (전역 헤더 24바이트, 패킷 헤더 16바이트, 합성 IP/TCP 헤더 40바이트 제외)
+     */
+    private static List<String> parsePayloads(byte[] pcap) {
+        ByteBuffer buffer = ByteBuffer.wrap(pcap);
+        List<String> payloads = new ArrayList<>();
+        int offset = 24;
+        while (offset < pcap.length) {
+            int includedLength = buffer.getInt(offset + 8);
+            payloads.add(new String(pcap, offset + 16 + 40, includedLength - 40, StandardCharsets.US_ASCII));
+            offset += 16 + includedLength;
+        }
+        return payloads;
+    }
+}
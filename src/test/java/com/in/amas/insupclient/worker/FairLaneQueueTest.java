@@ -0,0 +1,174 @@
+package com.in.amas.insupclient.worker;
+
+import com.in.amas.insupclient.dto.SipsvcMessage;
+import com.in.amas.insupclient.dto.WorkerMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FairLaneQueue 가중치 DRR 순서와 용량 포화 시 밀어내기 동작 테스트
+ * 
+ * @author InComm
+ * @version 1.0.0
+ */
+class FairLaneQueueTest {
+    
+    @Test
+    @DisplayName("공정 모드가 아니면 클라이언트와 관계없이 FIFO 순서")
+    void fifoWhenNotFair() {
+        FairLaneQueue queue = new FairLaneQueue(false);
+        queue.offerLast(request("A", 1, "a1"));
+        queue.offerLast(request("A", 1, "a2"));
+        queue.offerLast(request("B", 1, "b1"));
+        queue.offerLast(request("A", 1, "a3"));
+        
+        assertThat(drain(queue)).containsExactly("a1", "a2", "b1", "a3");
+        assertThat(queue.isEmpty()).isTrue();
+        assertThat(queue.getActiveFlowCount()).isZero();
+    }
+    
+    @Test
+    @DisplayName("가중치가 같으면 클라이언트별로 한 건씩 번갈아 꺼냄")
+    void roundRobinWithEqualWeights() {
+        FairLaneQueue queue = new FairLaneQueue(true);
+        for (int i = 1; i <= 4; i++) {
+            queue.offerLast(request("A", 1, "a" + i));
+        }
+        queue.offerLast(request("B", 1, "b1"));
+        queue.offerLast(request("B", 1, "b2"));
+        
+        assertThat(queue.getActiveFlowCount()).isEqualTo(2);
+        assertThat(drain(queue)).containsExactly("a1", "b1", "a2", "b2", "a3", "a4");
+    }
+    
+    @Test
+    @DisplayName("라운드마다 가중치만큼 꺼냄")
+    void weightedShare() {
+        FairLaneQueue queue = new FairLaneQueue(true);
+        for (int i = 1; i <= 6; i++) {
+            queue.offerLast(request("A", 3, "a" + i));
+        }
+        for (int i = 1; i <= 3; i++) {
+            queue.offerLast(request("B", 1, "b" + i));
+        }
+        
+        assertThat(drain(queue)).containsExactly("a1", "a2", "a3", "b1", "a4", "a5", "a6", "b2", "b3");
+    }
+    
+    @Test
+    @DisplayName("비었다가 다시 들어온 흐름은 남은 몫 없이 맨 뒤에서 시작")
+    void emptiedFlowRestartsAtTail() {
+        FairLaneQueue queue = new FairLaneQueue(true);
+        queue.offerLast(request("A", 2, "a1"));
+        queue.offerLast(request("B", 1, "b1"));
+        queue.offerLast(request("B", 1, "b2"));
+        
+        assertThat(queue.pollFirst().getRequestId()).isEqualTo("a1");
+        queue.offerLast(request("A", 2, "a2"));
+        
+        assertThat(drain(queue)).containsExactly("b1", "a2", "b2");
+    }
+    
+    @Test
+    @DisplayName("포화 시 가장 긴 흐름의 맨 뒤 메시지를 밀어냄")
+    void displacesTailOfLongestFlow() {
+        FairLaneQueue queue = new FairLaneQueue(true);
+        for (int i = 1; i <= 4; i++) {
+            queue.offerLast(request("heavy", 1, "h" + i));
+        }
+        
+        WorkerMessage light = request("light", 1, "l1");
+        WorkerMessage displaced = queue.offerDisplacing(light);
+        
+        assertThat(displaced.getRequestId()).isEqualTo("h4");
+        assertThat(queue.size()).isEqualTo(4);
+        assertThat(drain(queue)).containsExactly("h1", "l1", "h2", "h3");
+    }
+    
+    @Test
+    @DisplayName("새 메시지의 흐름이 가장 긴 흐름이면 밀어내지 않음")
+    void rejectsArrivalFromLongestFlow() {
+        FairLaneQueue queue = new FairLaneQueue(true);
+        queue.offerLast(request("heavy", 1, "h1"));
+        queue.offerLast(request("heavy", 1, "h2"));
+        queue.offerLast(request("light", 1, "l1"));
+        
+        WorkerMessage arriving = request("heavy", 1, "h3");
+        assertThat(queue.offerDisplacing(arriving)).isSameAs(arriving);
+        
+        // 밀어내도 길이 차이가 줄지 않는 경우도 거절
+        WorkerMessage lightArriving = request("light", 1, "l2");
+        assertThat(queue.offerDisplacing(lightArriving)).isSameAs(lightArriving);
+        
+        assertThat(drain(queue)).containsExactly("h1", "l1", "h2");
+    }
+    
+    @Test
+    @DisplayName("공정 모드가 아니면 밀어내지 않음")
+    void noDisplacementWhenNotFair() {
+        FairLaneQueue queue = new FairLaneQueue(false);
+        queue.offerLast(request("heavy", 1, "h1"));
+        queue.offerLast(request("heavy", 1, "h2"));
+        
+        WorkerMessage arriving = request("light", 1, "l1");
+        assertThat(queue.offerDisplacing(arriving)).isSameAs(arriving);
+        assertThat(queue.size()).isEqualTo(2);
+    }
+    
+    @Test
+    @DisplayName("워커 큐가 포화되면 많이 보낸 클라이언트의 요청을 밀어내고 거절 처리기로 넘김")
+    void workerQueueDisplacesHeavyClientWhenFull() {
+        // 용량 10 - 신규 요청은 9건까지
+        WorkerQueue workerQueue = new WorkerQueue(0, 10, WorkerQueue.DEFAULT_STARVATION_LIMIT, true);
+        List<String> rejected = new ArrayList<>();
+        workerQueue.setDisplacedHandler(message -> rejected.add(message.getRequestId()));
+        
+        for (int i = 1; i <= 9; i++) {
+            assertThat(workerQueue.offer(request("heavy", 1, "h" + i))).isTrue();
+        }
+        assertThat(workerQueue.isFull()).isTrue();
+        
+        assertThat(workerQueue.offer(request("heavy", 1, "h10"))).isFalse();
+        assertThat(workerQueue.offer(request("light", 1, "l1"))).isTrue();
+        
+        assertThat(rejected).containsExactly("h9");
+        assertThat(workerQueue.getQueueSize()).isEqualTo(9);
+        assertThat(workerQueue.getDisplacedCount().get()).isEqualTo(1);
+        
+        // 예비분이 남아 있으므로 제어 메시지는 들어감
+        assertThat(workerQueue.offer(heartbeat("hb1"))).isTrue();
+        assertThat(workerQueue.getQueueSize()).isEqualTo(10);
+    }
+    
+    private static List<String> drain(FairLaneQueue queue) {
+        List<String> order = new ArrayList<>();
+        WorkerMessage message;
+        while ((message = queue.pollFirst()) != null) {
+            order.add(message.getRequestId());
+        }
+        return order;
+    }
+    
+    private static WorkerMessage request(String clientId, int weight, String requestId) {
+        return WorkerMessage.builder()
+                .messageType(WorkerMessage.MessageType.SIPSVC_REQUEST)
+                .clientId(clientId)
+                .clientWeight(weight)
+                .requestId(requestId)
+                .sipsvcMessage(SipsvcMessage.builder().type(SipsvcMessage.Type.EXECUTE).build())
+                .build();
+    }
+    
+    private static WorkerMessage heartbeat(String requestId) {
+        return WorkerMessage.builder()
+                .messageType(WorkerMessage.MessageType.SIPSVC_REQUEST)
+                .requestId(requestId)
+                .sipsvcMessage(SipsvcMessage.builder().type(SipsvcMessage.Type.HEARTBEAT).build())
+                .build();
+    }
+}